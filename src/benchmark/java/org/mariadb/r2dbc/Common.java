@@ -38,6 +38,7 @@ public class Common {
     protected io.r2dbc.spi.Connection r2dbc;
     protected io.r2dbc.spi.Connection r2dbcFailover;
     protected io.r2dbc.spi.Connection r2dbcPrepare;
+    protected io.r2dbc.spi.Connection r2dbcCompress;
 //    protected io.r2dbc.spi.Connection r2dbcMysql;
 
     @Setup(Level.Trial)
@@ -68,6 +69,15 @@ public class Common {
               .database(database)
               .useServerPrepStmts(true)
               .build();
+      MariadbConnectionConfiguration confCompress =
+          MariadbConnectionConfiguration.builder()
+              .host(host)
+              .port(port)
+              .username(username)
+              .password(password)
+              .database(database)
+              .useCompression(true)
+              .build();
 
       String jdbcUrl =
           String.format(
@@ -79,6 +89,7 @@ public class Common {
         r2dbc = MariadbConnectionFactory.from(conf).create().block();
         r2dbcFailover = MariadbConnectionFactory.from(confFailover).create().block();
         r2dbcPrepare = MariadbConnectionFactory.from(confPrepare).create().block();
+        r2dbcCompress = MariadbConnectionFactory.from(confCompress).create().block();
 
       } catch (SQLException e) {
         e.printStackTrace();
@@ -93,6 +104,7 @@ public class Common {
       Mono.from(r2dbc.close()).block();
       Mono.from(r2dbcFailover.close()).block();
       Mono.from(r2dbcPrepare.close()).block();
+      Mono.from(r2dbcCompress.close()).block();
     }
   }
 }
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.mariadb.r2dbc.codec.list.LocalDateTimeCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text protocol DATETIME decoding, comparing String based parsing with direct buffer parsing. No
+ * server needed.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Measurement(iterations = 10, timeUnit = TimeUnit.SECONDS, time = 1)
+@Fork(value = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class Parse_Timestamp {
+
+  @Param({"2022-03-14 15:09:26", "2022-03-14 15:09:26.535897"})
+  public String value;
+
+  private ByteBuf buf;
+  private int length;
+
+  @Setup
+  public void setup() {
+    byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+    buf = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+    length = bytes.length;
+  }
+
+  @TearDown
+  public void tearDown() {
+    buf.release();
+  }
+
+  @Benchmark
+  public LocalDateTime testString() {
+    buf.readerIndex(0);
+    int[] parts =
+        LocalDateTimeCodec.parseTimestamp(
+            buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+    return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
+        .plusNanos(parts[6]);
+  }
+
+  @Benchmark
+  public LocalDateTime testBuffer() {
+    buf.readerIndex(0);
+    int[] parts = LocalDateTimeCodec.parseTimestamp(buf, length);
+    return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
+  }
+}
@@ -40,6 +40,11 @@ public class Select_10000_Rows extends Common {
     return consume(state.r2dbcPrepare, blackhole);
   }
 
+  @Benchmark
+  public List<String> testR2dbcCompress(MyState state, Blackhole blackhole) throws Throwable {
+    return consume(state.r2dbcCompress, blackhole);
+  }
+
 //  @Benchmark
 //  public void testR2dbcMysql(MyState state, Blackhole blackhole) throws Throwable {
 //    consume(state.r2dbcMysql, blackhole);
@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import org.mariadb.r2dbc.api.MariadbResult;
+import org.mariadb.r2dbc.api.MariadbRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+/** Scan of 10000 numeric rows, by row or by chunks of 1000 rows. */
+public class Select_10000_Rows_Chunks extends Common {
+  private static final String sql =
+      "SELECT CAST(seq AS SIGNED), seq / 3e0 FROM seq_1_to_10000 WHERE 1 = ?";
+
+  @Benchmark
+  public Double testR2dbcRows(MyState state) throws Throwable {
+    return consumeRows(state.r2dbc);
+  }
+
+  @Benchmark
+  public Double testR2dbcChunks(MyState state) throws Throwable {
+    return consumeChunks(state.r2dbc);
+  }
+
+  @Benchmark
+  public Double testR2dbcPrepareRows(MyState state) throws Throwable {
+    return consumeRows(state.r2dbcPrepare);
+  }
+
+  @Benchmark
+  public Double testR2dbcPrepareChunks(MyState state) throws Throwable {
+    return consumeChunks(state.r2dbcPrepare);
+  }
+
+  private Double consumeRows(io.r2dbc.spi.Connection connection) {
+    return Flux.from(connection.createStatement(sql).bind(0, 1).execute())
+        .flatMap(
+            it ->
+                it.map(
+                    (row, rowMetadata) ->
+                        ((MariadbRow) row).getLong(0) * ((MariadbRow) row).getDouble(1)))
+        .reduce(0d, Double::sum)
+        .block(Duration.ofSeconds(1));
+  }
+
+  private Double consumeChunks(io.r2dbc.spi.Connection connection) {
+    return Flux.from(connection.createStatement(sql).bind(0, 1).execute())
+        .flatMap(
+            it ->
+                ((MariadbResult) it)
+                    .mapChunks(
+                        1000,
+                        chunk -> {
+                          long[] ids = chunk.getLongs(0);
+                          double[] values = chunk.getDoubles(1);
+                          double sum = 0;
+                          for (int i = 0; i < chunk.size(); i++) {
+                            sum += ids[i] * values[i];
+                          }
+                          return sum;
+                        }))
+        .reduce(0d, Double::sum)
+        .block(Duration.ofSeconds(1));
+  }
+}
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import reactor.core.publisher.Flux;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+/** Column access benchmark: 1000 rows of 20 columns, each column being read. */
+public class Select_1000_Rows_20_Columns extends Common {
+  private static final int COLUMNS = 20;
+  private static final String sql;
+
+  static {
+    StringBuilder sb = new StringBuilder("SELECT seq");
+    for (int i = 1; i < COLUMNS; i++) {
+      sb.append(", seq + ").append(i);
+    }
+    sql = sb.append(" FROM seq_1_to_1000 WHERE 1 = ?").toString();
+  }
+
+  @Benchmark
+  public long testJdbc(MyState state) throws Throwable {
+    try (PreparedStatement st = state.jdbc.prepareStatement(sql)) {
+      st.setInt(1, 1);
+      ResultSet rs = st.executeQuery();
+      long sum = 0;
+      while (rs.next()) {
+        for (int i = 1; i <= COLUMNS; i++) {
+          sum += rs.getLong(i);
+        }
+      }
+      return sum;
+    }
+  }
+
+  @Benchmark
+  public Long testR2dbc(MyState state) throws Throwable {
+    return consume(state.r2dbc);
+  }
+
+  @Benchmark
+  public Long testR2dbcPrepare(MyState state) throws Throwable {
+    return consume(state.r2dbcPrepare);
+  }
+
+  private Long consume(io.r2dbc.spi.Connection connection) {
+    return Flux.from(connection.createStatement(sql).bind(0, 1).execute())
+        .flatMap(
+            it ->
+                it.map(
+                    (row, rowMetadata) -> {
+                      long sum = 0;
+                      for (int i = 0; i < COLUMNS; i++) {
+                        sum += row.get(i, Long.class);
+                      }
+                      return sum;
+                    }))
+        .reduce(0L, Long::sum)
+        .block(Duration.ofSeconds(1));
+  }
+}
@@ -0,0 +1,56 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** Contention benchmark: all threads send commands on the same connection. */
+public class Select_1_Shared_Connection extends Common {
+
+  @State(Scope.Benchmark)
+  public static class SharedState {
+
+    public final String host = System.getProperty("TEST_HOST", "localhost");
+    public final int port = Integer.parseInt(System.getProperty("TEST_PORT", "3306"));
+    public final String username = System.getProperty("TEST_USERNAME", "root");
+    public final String password = System.getProperty("TEST_PASSWORD", "");
+    public final String database = System.getProperty("TEST_DATABASE", "testr2");
+
+    protected io.r2dbc.spi.Connection r2dbc;
+
+    @Setup(Level.Trial)
+    public void doSetup() throws Exception {
+      MariadbConnectionConfiguration conf =
+          MariadbConnectionConfiguration.builder()
+              .host(host)
+              .port(port)
+              .username(username)
+              .password(password)
+              .database(database)
+              .build();
+      r2dbc = MariadbConnectionFactory.from(conf).create().block();
+    }
+
+    @TearDown(Level.Trial)
+    public void doTearDown() {
+      Mono.from(r2dbc.close()).block();
+    }
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Integer testR2dbc(SharedState state) throws Throwable {
+    int rnd = (int) (Math.random() * 1000);
+    io.r2dbc.spi.Statement statement = state.r2dbc.createStatement("select " + rnd);
+    Integer val =
+        Flux.from(statement.execute())
+            .flatMap(it -> it.map((row, rowMetadata) -> row.get(0, Integer.class)))
+            .blockLast();
+    if (rnd != val)
+      throw new IllegalStateException("ERROR rnd:" + rnd + " different to val:" + val);
+    return val;
+  }
+}
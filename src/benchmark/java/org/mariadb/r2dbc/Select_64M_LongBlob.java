@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+/** Read a 64M LONGBLOB value, server max_allowed_packet must be greater than 64M. */
+@Threads(value = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Timeout(timeUnit = TimeUnit.SECONDS, time = 30)
+public class Select_64M_LongBlob extends Common {
+  private static final String sql = "SELECT CAST(REPEAT('a', 64 * 1024 * 1024) AS BINARY)";
+
+  @Benchmark
+  public byte[] testJdbc(MyState state) throws Throwable {
+    try (Statement st = state.jdbc.createStatement()) {
+      ResultSet rs = st.executeQuery(sql);
+      rs.next();
+      return rs.getBytes(1);
+    }
+  }
+
+  @Benchmark
+  public byte[] testR2dbc(MyState state) throws Throwable {
+    return consume(state.r2dbc);
+  }
+
+  @Benchmark
+  public byte[] testR2dbcPrepare(MyState state) throws Throwable {
+    return consume(state.r2dbcPrepare);
+  }
+
+  private byte[] consume(io.r2dbc.spi.Connection connection) {
+    return Flux.from(connection.createStatement(sql).execute())
+        .flatMap(it -> it.map((row, rowMetadata) -> row.get(0, byte[].class)))
+        .blockLast(Duration.ofSeconds(30));
+  }
+}
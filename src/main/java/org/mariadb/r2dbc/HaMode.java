@@ -11,7 +11,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.mariadb.r2dbc.client.Client;
@@ -30,11 +29,10 @@ public enum HaMode {
       return getAvailableHostInOrder(hostAddresses, denyList);
     }
 
-    public Mono<Client> connectHost(
-        MariadbConnectionConfiguration conf, ReentrantLock lock, boolean failFast) {
+    public Mono<Client> connectHost(MariadbConnectionConfiguration conf, boolean failFast) {
       long endingNanoTime =
           CONNECTION_LOOP_DURATION.getSeconds() * 1_000_000_000 + System.nanoTime();
-      return connectHost(conf, lock, failFast, this::getAvailableHost, endingNanoTime);
+      return connectHost(conf, failFast, this::getAvailableHost, endingNanoTime);
     }
   },
 
@@ -49,11 +47,10 @@ public enum HaMode {
       return loopAddress;
     }
 
-    public Mono<Client> connectHost(
-        MariadbConnectionConfiguration conf, ReentrantLock lock, boolean failFast) {
+    public Mono<Client> connectHost(MariadbConnectionConfiguration conf, boolean failFast) {
       long endingNanoTime =
           CONNECTION_LOOP_DURATION.getSeconds() * 1_000_000_000 + System.nanoTime();
-      return connectHost(conf, lock, failFast, this::getAvailableHost, endingNanoTime);
+      return connectHost(conf, failFast, this::getAvailableHost, endingNanoTime);
     }
   },
 
@@ -64,9 +61,8 @@ public enum HaMode {
       return hostAddresses;
     }
 
-    public Mono<Client> connectHost(
-        MariadbConnectionConfiguration conf, ReentrantLock lock, boolean failFast) {
-      return connectHost(conf, lock, true, this::getAvailableHost, 0L);
+    public Mono<Client> connectHost(MariadbConnectionConfiguration conf, boolean failFast) {
+      return connectHost(conf, true, this::getAvailableHost, 0L);
     }
   };
 
@@ -103,13 +99,12 @@ public enum HaMode {
   }
 
   private static Mono<Client> connect(
-      MariadbConnectionConfiguration conf, ReentrantLock lock, HostAddress hostAddress) {
+      MariadbConnectionConfiguration conf, HostAddress hostAddress) {
     return SimpleClient.connect(
             ConnectionProvider.newConnection(),
             InetSocketAddress.createUnresolved(hostAddress.getHost(), hostAddress.getPort()),
             hostAddress,
-            conf,
-            lock)
+            conf)
         .delayUntil(client -> AuthenticationFlow.exchange(client, conf, hostAddress))
         .doOnError(e -> HaMode.failHost(hostAddress))
         .cast(Client.class)
@@ -139,7 +134,6 @@ public enum HaMode {
   public static Mono<Client> resumeConnect(
       Throwable t,
       MariadbConnectionConfiguration conf,
-      ReentrantLock lock,
       boolean failFast,
       List<HostAddress> availableHosts,
       BiFunction<List<HostAddress>, ConcurrentMap<HostAddress, Long>, List<HostAddress>> availHost,
@@ -161,18 +155,17 @@ public enum HaMode {
       } catch (InterruptedException e) {
         // eat
       }
-      return connectHost(conf, lock, failFast, availHost, endingNanoTime);
+      return connectHost(conf, failFast, availHost, endingNanoTime);
     }
-    return HaMode.connect(conf, lock, iterator.next())
+    return HaMode.connect(conf, iterator.next())
         .onErrorResume(
             tt ->
                 resumeConnect(
-                    tt, conf, lock, failFast, availableHosts, availHost, iterator, endingNanoTime));
+                    tt, conf, failFast, availableHosts, availHost, iterator, endingNanoTime));
   }
 
   public static Mono<Client> connectHost(
       MariadbConnectionConfiguration conf,
-      ReentrantLock lock,
       boolean failFast,
       BiFunction<List<HostAddress>, ConcurrentMap<HostAddress, Long>, List<HostAddress>> availHost,
       long endingNanoTime) {
@@ -194,11 +187,11 @@ public enum HaMode {
       return Mono.error(
           ExceptionFactory.INSTANCE.createParsingException(
               "Fail to establish connection: no available host"));
-    return HaMode.connect(conf, lock, iterator.next())
+    return HaMode.connect(conf, iterator.next())
         .onErrorResume(
             t ->
                 resumeConnect(
-                    t, conf, lock, failFast, availableHosts, availHost, iterator, endingNanoTime));
+                    t, conf, failFast, availableHosts, availHost, iterator, endingNanoTime));
   }
 
   /**
@@ -211,8 +204,7 @@ public enum HaMode {
   public abstract List<HostAddress> getAvailableHost(
       List<HostAddress> hostAddresses, ConcurrentMap<HostAddress, Long> denyList);
 
-  public abstract Mono<Client> connectHost(
-      MariadbConnectionConfiguration conf, ReentrantLock lock, boolean failFast);
+  public abstract Mono<Client> connectHost(MariadbConnectionConfiguration conf, boolean failFast);
 
   public static void failHost(HostAddress hostAddress) {
     denyList.put(hostAddress, System.nanoTime() + DENIED_LIST_TIMEOUT);
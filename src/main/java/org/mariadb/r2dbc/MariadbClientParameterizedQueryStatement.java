@@ -67,23 +67,29 @@ final class MariadbClientParameterizedQueryStatement extends MariadbCommonStatem
               // single query
               Binding binding = this.bindings.pollFirst();
 
-              Flux<ServerMessage> messages =
-                  bindingParameterResults(binding, getExpectedSize())
-                      .flatMapMany(
-                          values ->
-                              this.client.sendCommand(
-                                  new QueryWithParametersPacket(
-                                      prepareResult,
-                                      values,
-                                      client.getVersion().supportReturning()
-                                          ? generatedColumns
-                                          : null),
-                                  false));
               return toResult(
-                  Protocol.TEXT, client, messages, factory, null, generatedColumns, configuration);
+                  Protocol.TEXT,
+                  client,
+                  sendQuery(binding),
+                  factory,
+                  null,
+                  generatedColumns,
+                  configuration);
             }
 
             // batch
+            if (canPipelineBatch()) {
+              return pipelineBatch(
+                  binding ->
+                      toResult(
+                          Protocol.TEXT,
+                          this.client,
+                          sendQuery(binding),
+                          factory,
+                          null,
+                          generatedColumns,
+                          configuration));
+            }
             Iterator<Binding> iterator = this.bindings.iterator();
             Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
             AtomicBoolean canceled = new AtomicBoolean();
@@ -92,17 +98,7 @@ final class MariadbClientParameterizedQueryStatement extends MariadbCommonStatem
                 .map(
                     it -> {
                       Flux<ServerMessage> messages =
-                          bindingParameterResults(it, getExpectedSize())
-                              .flatMapMany(
-                                  values ->
-                                      this.client.sendCommand(
-                                          new QueryWithParametersPacket(
-                                              prepareResult,
-                                              values,
-                                              client.getVersion().supportReturning()
-                                                  ? generatedColumns
-                                                  : null),
-                                          false))
+                          sendQuery(it)
                               .doOnComplete(() -> tryNextBinding(iterator, bindingSink, canceled));
 
                       return toResult(
@@ -133,6 +129,18 @@ final class MariadbClientParameterizedQueryStatement extends MariadbCommonStatem
     }
   }
 
+  private Flux<ServerMessage> sendQuery(Binding binding) {
+    return bindingParameterResults(binding, getExpectedSize())
+        .flatMapMany(
+            values ->
+                this.client.sendCommand(
+                    new QueryWithParametersPacket(
+                        prepareResult,
+                        values,
+                        client.getVersion().supportReturning() ? generatedColumns : null),
+                    false));
+  }
+
   @Override
   public MariadbClientParameterizedQueryStatement returnGeneratedValues(String... columns) {
     Assert.requireNonNull(columns, "columns must not be null");
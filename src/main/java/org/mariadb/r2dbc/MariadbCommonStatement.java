@@ -1,10 +1,15 @@
 package org.mariadb.r2dbc;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
 import org.mariadb.r2dbc.api.MariadbStatement;
 import org.mariadb.r2dbc.client.Client;
@@ -12,6 +17,8 @@ import org.mariadb.r2dbc.client.MariadbResult;
 import org.mariadb.r2dbc.codec.Codecs;
 import org.mariadb.r2dbc.message.Protocol;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
+import org.mariadb.r2dbc.message.client.ResetPreparePacket;
 import org.mariadb.r2dbc.message.server.RowPacket;
 import org.mariadb.r2dbc.util.*;
 import reactor.core.publisher.Flux;
@@ -27,6 +34,7 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
   protected final MariadbConnectionConfiguration configuration;
   protected ExceptionFactory factory;
   protected String[] generatedColumns;
+  protected int fetchSize;
   private final Protocol defaultProtocol;
 
   public MariadbCommonStatement(
@@ -95,6 +103,16 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
     return this;
   }
 
+  @Override
+  public MariadbStatement fetchSize(int rows) {
+    if (rows < 0) {
+      throw new IllegalArgumentException(
+          String.format("fetch size must be a positive value, was %d", rows));
+    }
+    this.fetchSize = rows;
+    return this;
+  }
+
   protected abstract int getColumnIndex(String name);
 
   @Nonnull
@@ -126,16 +144,110 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
   }
 
   static Mono<List<BindEncodedValue>> bindingParameterResults(Binding binding, int expectedSize) {
-    return Flux.fromIterable(binding.getBindResultParameters(expectedSize))
-        .flatMap(
-            f -> {
+    List<BindValue> parameters = binding.getBindResultParameters(expectedSize);
+    for (BindValue f : parameters) {
+      if (!f.isNull() && !f.isSynchronous()) {
+        // at least one asynchronous source (Blob, Clob)
+        return Flux.fromIterable(parameters)
+            .concatMap(
+                p -> {
+                  if (p.isNull()) {
+                    return Mono.just(new BindEncodedValue(p.getCodec(), null));
+                  } else if (p.isSynchronous()) {
+                    return Mono.fromSupplier(p::encode);
+                  } else {
+                    return p.getValue().map(b -> new BindEncodedValue(p.getCodec(), b));
+                  }
+                })
+            .doOnDiscard(BindEncodedValue.class, MariadbCommonStatement::release)
+            .collectList();
+      }
+    }
+    return Mono.fromCallable(() -> encodeParameters(parameters));
+  }
+
+  /**
+   * Encode parameters synchronously, without any reactive operator for each value. Values already
+   * encoded are released if a parameter encoding fails.
+   *
+   * @param parameters synchronous parameters
+   * @return encoded parameters
+   */
+  static List<BindEncodedValue> encodeParameters(List<BindValue> parameters) {
+    List<BindEncodedValue> values = new ArrayList<>(parameters.size());
+    try {
+      for (BindValue f : parameters) {
+        values.add(f.isNull() ? new BindEncodedValue(f.getCodec(), null) : f.encode());
+      }
+    } catch (RuntimeException e) {
+      values.forEach(MariadbCommonStatement::release);
+      throw e;
+    }
+    return values;
+  }
+
+  private static void release(BindEncodedValue value) {
+    if (value.getValue() != null) ReferenceCountUtil.safeRelease(value.getValue());
+  }
+
+  /**
+   * Encode parameters for execution of a server prepared statement. Long data parameters (Blob,
+   * Clob, InputStream and huge ByteBuffer) are streamed before execute command using
+   * COM_STMT_SEND_LONG_DATA, a chunk being read only once previous one has been written to socket.
+   *
+   * @param client client
+   * @param prepareResult server prepared statement
+   * @param binding parameters
+   * @param expectedSize parameter number
+   * @return encoded parameters
+   */
+  static Mono<List<BindEncodedValue>> bindingParameterResults(
+      Client client, ServerPrepareResult prepareResult, Binding binding, int expectedSize) {
+    if (!binding.hasLongData()) return bindingParameterResults(binding, expectedSize);
+    List<BindValue> parameters = binding.getBindResultParameters(expectedSize);
+    int statementId = prepareResult.getStatementId();
+    return Flux.range(0, parameters.size())
+        .concatMap(
+            i -> {
+              BindValue f = parameters.get(i);
               if (f.isNull()) {
                 return Mono.just(new BindEncodedValue(f.getCodec(), null));
+              }
+              if (!f.isLongData()) {
+                return f.isSynchronous()
+                    ? Mono.fromSupplier(f::encode)
+                    : f.getValue().map(b -> new BindEncodedValue(f.getCodec(), b));
+              }
+              return f.getLongData()
+                  .concatMap(MariadbCommonStatement::splitLongData, 1)
+                  // empty value must be sent too, in order to be distinguished from execute values
+                  .switchIfEmpty(Mono.fromSupplier(() -> Unpooled.EMPTY_BUFFER))
+                  .concatMap(
+                      chunk -> client.sendLongData(new LongDataPacket(statementId, i, chunk)), 1)
+                  .doOnDiscard(ByteBuf.class, ReferenceCountUtil::safeRelease)
+                  .then(Mono.just(new BindEncodedValue(f.getCodec(), null, true)));
+            })
+        .collectList()
+        .onErrorResume(
+            e ->
+                // discard long data already sent
+                client
+                    .sendCommand(new ResetPreparePacket(statementId), false)
+                    .then(Mono.<List<BindEncodedValue>>error(e)));
+  }
+
+  private static Flux<ByteBuf> splitLongData(ByteBuf chunk) {
+    if (chunk.readableBytes() <= LongDataPacket.MAX_CHUNK_SIZE) return Flux.just(chunk);
+    return Flux.<ByteBuf>generate(
+            sink -> {
+              if (chunk.isReadable()) {
+                int len = Math.min(LongDataPacket.MAX_CHUNK_SIZE, chunk.readableBytes());
+                sink.next(chunk.readRetainedSlice(len));
               } else {
-                return f.getValue().map(b -> new BindEncodedValue(f.getCodec(), b));
+                sink.complete();
               }
             })
-        .collectList();
+        .doFinally(s -> chunk.release());
   }
 
   public static Flux<org.mariadb.r2dbc.api.MariadbResult> toResult(
@@ -162,6 +274,37 @@ public abstract class MariadbCommonStatement implements MariadbStatement {
         .doOnDiscard(RowPacket.class, RowPacket::release);
   }
 
+  /**
+   * Indicate if batch can be pipelined. Parameters must be encoded synchronously, for commands to
+   * be sent in binding order, and must not be streamed before execution: streams and large
+   * buffers have synchronous values, but are sent as long data.
+   *
+   * @return true if all batch commands can be sent without waiting for previous results
+   */
+  protected boolean canPipelineBatch() {
+    if (!configuration.allowPipelining()) return false;
+    for (Binding binding : this.bindings) {
+      if (!binding.isSynchronous() || binding.hasLongData()) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Execute batch, sending commands of all bindings back-to-back without waiting for previous
+   * command results, up to pipeline depth. Results are still emitted in binding order.
+   *
+   * @param executor binding execution
+   * @return results
+   */
+  protected Flux<org.mariadb.r2dbc.api.MariadbResult> pipelineBatch(
+      Function<Binding, Flux<org.mariadb.r2dbc.api.MariadbResult>> executor) {
+    return Flux.fromIterable(this.bindings)
+        .flatMapSequential(executor, configuration.getMaxPipelineDepth())
+        .doOnComplete(this.bindings::clear)
+        .doOnCancel(() -> this.bindings.forEach(Binding::clear))
+        .doOnError(e -> this.bindings.forEach(Binding::clear));
+  }
+
   protected static void tryNextBinding(
       Iterator<Binding> iterator, Sinks.Many<Binding> bindingSink, AtomicBoolean canceled) {
 
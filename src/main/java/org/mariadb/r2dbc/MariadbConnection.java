@@ -158,6 +158,16 @@ public final class MariadbConnection implements org.mariadb.r2dbc.api.MariadbCon
     return this.client.getHostAddress() != null ? this.client.getHostAddress().getPort() : 3306;
   }
 
+  @Override
+  public int getPendingCommandCount() {
+    return this.client.getPendingCommandCount();
+  }
+
+  @Override
+  public long getBufferedBytes() {
+    return this.client.getBufferedBytes();
+  }
+
   @Override
   public Mono<Void> rollbackTransaction() {
     return this.client.rollbackTransaction().then().doOnSuccess(i -> this.isolationLevel = null);
@@ -47,6 +47,13 @@ public final class MariadbConnectionConfiguration {
   private final boolean useServerPrepStmts;
   private final boolean autocommit;
   private final boolean tinyInt1isBit;
+  private final boolean useCompression;
+  private final ReceiveWindowMode receiveWindowMode;
+  private final int receiveWindowSize;
+  private final int maxBufferedBytes;
+  private final int maxPipelineDepth;
+  private final int maxPendingCommands;
+  private final boolean useBulkStmts;
   private final String[] restrictedAuth;
   private final LoopResources loopResources;
 
@@ -82,6 +89,13 @@ public final class MariadbConnectionConfiguration {
       @Nullable Integer prepareCacheSize,
       @Nullable CharSequence[] pamOtherPwd,
       boolean tinyInt1isBit,
+      boolean useCompression,
+      ReceiveWindowMode receiveWindowMode,
+      @Nullable Integer receiveWindowSize,
+      @Nullable Integer maxBufferedBytes,
+      @Nullable Integer maxPipelineDepth,
+      @Nullable Integer maxPendingCommands,
+      boolean useBulkStmts,
       String restrictedAuth,
       @Nullable LoopResources loopResources) {
     this.haMode = haMode == null ? HaMode.NONE : HaMode.from(haMode);
@@ -119,6 +133,18 @@ public final class MariadbConnectionConfiguration {
     this.pamOtherPwd = pamOtherPwd;
     this.autocommit = autocommit;
     this.tinyInt1isBit = tinyInt1isBit;
+    this.useCompression = useCompression;
+    this.receiveWindowMode =
+        receiveWindowMode == null ? ReceiveWindowMode.PACKETS : receiveWindowMode;
+    this.receiveWindowSize =
+        receiveWindowSize == null
+            ? this.receiveWindowMode.getDefaultSize()
+            : receiveWindowSize.intValue();
+    this.maxBufferedBytes =
+        maxBufferedBytes == null ? 16 * 1024 * 1024 : maxBufferedBytes.intValue();
+    this.maxPipelineDepth = maxPipelineDepth == null ? 256 : maxPipelineDepth.intValue();
+    this.maxPendingCommands = maxPendingCommands == null ? 4096 : maxPendingCommands.intValue();
+    this.useBulkStmts = useBulkStmts;
     this.loopResources = loopResources != null ? loopResources : TcpResources.get();
     this.useServerPrepStmts = !this.allowMultiQueries && useServerPrepStmts;
   }
@@ -233,6 +259,50 @@ public final class MariadbConnectionConfiguration {
           boolValue(
               connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.TINY_IS_BIT)));
     }
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.USE_COMPRESSION)) {
+      builder.useCompression(
+          boolValue(
+              connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.USE_COMPRESSION)));
+    }
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.RECEIVE_WINDOW_MODE)) {
+      builder.receiveWindowMode(
+          ReceiveWindowMode.from(
+              (String)
+                  connectionFactoryOptions.getValue(
+                      MariadbConnectionFactoryProvider.RECEIVE_WINDOW_MODE)));
+    }
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.RECEIVE_WINDOW_SIZE)) {
+      builder.receiveWindowSize(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.RECEIVE_WINDOW_SIZE)));
+    }
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.MAX_BUFFERED_BYTES)) {
+      builder.maxBufferedBytes(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.MAX_BUFFERED_BYTES)));
+    }
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.MAX_PIPELINE_DEPTH)) {
+      builder.maxPipelineDepth(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.MAX_PIPELINE_DEPTH)));
+    }
+    if (connectionFactoryOptions.hasOption(
+        MariadbConnectionFactoryProvider.MAX_PENDING_COMMANDS)) {
+      builder.maxPendingCommands(
+          intValue(
+              connectionFactoryOptions.getValue(
+                  MariadbConnectionFactoryProvider.MAX_PENDING_COMMANDS)));
+    }
+    if (connectionFactoryOptions.hasOption(MariadbConnectionFactoryProvider.USE_BULK_STMTS)) {
+      builder.useBulkStmts(
+          boolValue(
+              connectionFactoryOptions.getValue(MariadbConnectionFactoryProvider.USE_BULK_STMTS)));
+    }
 
     if (connectionFactoryOptions.hasOption(
         MariadbConnectionFactoryProvider.CONNECTION_ATTRIBUTES)) {
@@ -418,6 +488,34 @@ public final class MariadbConnectionConfiguration {
     return tinyInt1isBit;
   }
 
+  public boolean useCompression() {
+    return useCompression;
+  }
+
+  public ReceiveWindowMode getReceiveWindowMode() {
+    return receiveWindowMode;
+  }
+
+  public int getReceiveWindowSize() {
+    return receiveWindowSize;
+  }
+
+  public int getMaxBufferedBytes() {
+    return maxBufferedBytes;
+  }
+
+  public int getMaxPipelineDepth() {
+    return maxPipelineDepth;
+  }
+
+  public int getMaxPendingCommands() {
+    return maxPendingCommands;
+  }
+
+  public boolean useBulkStmts() {
+    return useBulkStmts;
+  }
+
   public int getPrepareCacheSize() {
     return prepareCacheSize;
   }
@@ -508,6 +606,20 @@ public final class MariadbConnectionConfiguration {
         + autocommit
         + ", tinyInt1isBit="
         + tinyInt1isBit
+        + ", useCompression="
+        + useCompression
+        + ", receiveWindowMode="
+        + receiveWindowMode
+        + ", receiveWindowSize="
+        + receiveWindowSize
+        + ", maxBufferedBytes="
+        + maxBufferedBytes
+        + ", maxPipelineDepth="
+        + maxPipelineDepth
+        + ", maxPendingCommands="
+        + maxPendingCommands
+        + ", useBulkStmts="
+        + useBulkStmts
         + ", pamOtherPwd="
         + hiddenPamPwd
         + ", restrictedAuth="
@@ -545,6 +657,13 @@ public final class MariadbConnectionConfiguration {
     private IsolationLevel isolationLevel = null;
     private boolean autocommit = true;
     private boolean tinyInt1isBit = true;
+    private boolean useCompression = false;
+    private ReceiveWindowMode receiveWindowMode = ReceiveWindowMode.PACKETS;
+    @Nullable private Integer receiveWindowSize;
+    @Nullable private Integer maxBufferedBytes;
+    @Nullable private Integer maxPipelineDepth;
+    @Nullable private Integer maxPendingCommands;
+    private boolean useBulkStmts = false;
     @Nullable Integer prepareCacheSize;
     @Nullable private List<String> tlsProtocol;
     @Nullable private String serverSslCert;
@@ -610,6 +729,13 @@ public final class MariadbConnectionConfiguration {
           this.prepareCacheSize,
           this.pamOtherPwd,
           this.tinyInt1isBit,
+          this.useCompression,
+          this.receiveWindowMode,
+          this.receiveWindowSize,
+          this.maxBufferedBytes,
+          this.maxPipelineDepth,
+          this.maxPendingCommands,
+          this.useBulkStmts,
           this.restrictedAuth,
           this.loopResources);
     }
@@ -885,6 +1011,118 @@ public final class MariadbConnectionConfiguration {
       return this;
     }
 
+    /**
+     * Permit to use compressed protocol (zlib) if server support it. This reduce network traffic
+     * at the cost of CPU, and is mostly interesting when bandwidth is limited. Default value False.
+     *
+     * @param useCompression use compression protocol
+     * @return this {@link Builder}
+     */
+    public Builder useCompression(boolean useCompression) {
+      this.useCompression = useCompression;
+      return this;
+    }
+
+    /**
+     * Indicate how the number of server packets requested at once from socket is computed:
+     *
+     * <ul>
+     *   <li>{@link ReceiveWindowMode#PACKETS}: fixed number of packets (receiveWindowSize)
+     *   <li>{@link ReceiveWindowMode#BYTES}: receiveWindowSize bytes, number of packets being
+     *       computed from observed packet size
+     *   <li>{@link ReceiveWindowMode#ADAPTIVE}: number of packets grows when consumer keeps up
+     *       with the network and shrinks when messages have to be buffered, limited to
+     *       receiveWindowSize bytes
+     * </ul>
+     *
+     * Default value PACKETS.
+     *
+     * @param receiveWindowMode receive window mode
+     * @return this {@link Builder}
+     */
+    public Builder receiveWindowMode(ReceiveWindowMode receiveWindowMode) {
+      this.receiveWindowMode =
+          Assert.requireNonNull(receiveWindowMode, "receiveWindowMode must not be null");
+      return this;
+    }
+
+    /**
+     * Receive window size, in packets for PACKETS mode, in bytes for BYTES and ADAPTIVE modes.
+     * Default to 256 packets, or 1M bytes.
+     *
+     * @param receiveWindowSize receive window size
+     * @return this {@link Builder}
+     */
+    public Builder receiveWindowSize(@Nullable Integer receiveWindowSize) {
+      if (receiveWindowSize != null && receiveWindowSize <= 0) {
+        throw new IllegalArgumentException("receiveWindowSize must be positive");
+      }
+      this.receiveWindowSize = receiveWindowSize;
+      return this;
+    }
+
+    /**
+     * Maximum size of received rows waiting for a slow consumer. Packets are requested from socket
+     * according to consumer demand, and receive window is limited to this size given the largest
+     * packet received, so TCP flow control slows down the server instead of buffering unbounded
+     * data. Default to 16M.
+     *
+     * @param maxBufferedBytes maximum buffered bytes
+     * @return this {@link Builder}
+     */
+    public Builder maxBufferedBytes(@Nullable Integer maxBufferedBytes) {
+      if (maxBufferedBytes != null && maxBufferedBytes <= 0) {
+        throw new IllegalArgumentException("maxBufferedBytes must be positive");
+      }
+      this.maxBufferedBytes = maxBufferedBytes;
+      return this;
+    }
+
+    /**
+     * Maximum number of commands sent to server without having received their response. Commands
+     * exceeding this depth wait in pending queue until in-flight commands complete. Default to
+     * 256.
+     *
+     * @param maxPipelineDepth maximum pipeline depth
+     * @return this {@link Builder}
+     */
+    public Builder maxPipelineDepth(@Nullable Integer maxPipelineDepth) {
+      if (maxPipelineDepth != null && maxPipelineDepth <= 0) {
+        throw new IllegalArgumentException("maxPipelineDepth must be positive");
+      }
+      this.maxPipelineDepth = maxPipelineDepth;
+      return this;
+    }
+
+    /**
+     * Maximum number of commands waiting for pipeline depth to permit sending them. Commands
+     * exceeding this number fail. Default to 4096.
+     *
+     * @param maxPendingCommands maximum pending commands
+     * @return this {@link Builder}
+     */
+    public Builder maxPendingCommands(@Nullable Integer maxPendingCommands) {
+      if (maxPendingCommands != null && maxPendingCommands < 0) {
+        throw new IllegalArgumentException("maxPendingCommands must not be negative");
+      }
+      this.maxPendingCommands = maxPendingCommands;
+      return this;
+    }
+
+    /**
+     * Permit to execute batches of server prepared statements using bulk command
+     * (COM_STMT_BULK_EXECUTE), all bindings being sent in a few commands and executed at once, when
+     * server returns a result per binding (MariaDB 11.5+). Batch still returns one result per
+     * binding. Batches returning generated values don't use bulk. Default value False.
+     *
+     * @param useBulkStmts use bulk command for batches
+     * @return this {@link Builder}
+     */
+    public Builder useBulkStmts(boolean useBulkStmts) {
+      this.useBulkStmts = useBulkStmts;
+      return this;
+    }
+
     /**
      * Permit pipelining (sending request before resolution of previous one).
      *
@@ -1022,6 +1260,20 @@ public final class MariadbConnectionConfiguration {
           + hiddenPamPwd
           + ", tinyInt1isBit="
           + tinyInt1isBit
+          + ", useCompression="
+          + useCompression
+          + ", receiveWindowMode="
+          + receiveWindowMode
+          + ", receiveWindowSize="
+          + receiveWindowSize
+          + ", maxBufferedBytes="
+          + maxBufferedBytes
+          + ", maxPipelineDepth="
+          + maxPipelineDepth
+          + ", maxPendingCommands="
+          + maxPendingCommands
+          + ", useBulkStmts="
+          + useBulkStmts
           + ", autoCommit="
           + autocommit
           + '}';
@@ -8,7 +8,6 @@ import io.r2dbc.spi.*;
 import java.net.SocketAddress;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.client.FailoverClient;
 import org.mariadb.r2dbc.client.SimpleClient;
@@ -37,16 +36,15 @@ public final class MariadbConnectionFactory implements ConnectionFactory {
 
   @Override
   public Mono<org.mariadb.r2dbc.api.MariadbConnection> create() {
-    ReentrantLock lock = new ReentrantLock();
     return ((configuration.getSocket() != null)
             ? connectToSocket(
-                configuration, new DomainSocketAddress(configuration.getSocket()), null, lock)
+                configuration, new DomainSocketAddress(configuration.getSocket()), null)
             : (configuration.getHaMode().equals(HaMode.NONE)
-                ? configuration.getHaMode().connectHost(configuration, lock, false)
+                ? configuration.getHaMode().connectHost(configuration, false)
                 : configuration
                     .getHaMode()
-                    .connectHost(configuration, lock, false)
-                    .flatMap(c -> Mono.just(new FailoverClient(configuration, lock, c)))))
+                    .connectHost(configuration, false)
+                    .flatMap(c -> Mono.just(new FailoverClient(configuration, c)))))
         .flatMap(
             client ->
                 Mono.just(
@@ -63,10 +61,9 @@ public final class MariadbConnectionFactory implements ConnectionFactory {
   private static Mono<Client> connectToSocket(
       final MariadbConnectionConfiguration configuration,
       SocketAddress endpoint,
-      HostAddress hostAddress,
-      ReentrantLock lock) {
+      HostAddress hostAddress) {
     return SimpleClient.connect(
-            ConnectionProvider.newConnection(), endpoint, hostAddress, configuration, lock)
+            ConnectionProvider.newConnection(), endpoint, hostAddress, configuration)
         .delayUntil(client -> AuthenticationFlow.exchange(client, configuration, hostAddress))
         .cast(Client.class)
         .flatMap(client -> setSessionVariables(configuration, client).thenReturn(client))
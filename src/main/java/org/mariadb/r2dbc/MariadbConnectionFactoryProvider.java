@@ -25,6 +25,14 @@ public final class MariadbConnectionFactoryProvider implements ConnectionFactory
   public static final Option<String> ISOLATION_LEVEL = Option.valueOf("isolationLevel");
   public static final Option<Boolean> AUTO_COMMIT = Option.valueOf("autoCommit");
   public static final Option<Boolean> TINY_IS_BIT = Option.valueOf("tinyInt1isBit");
+  public static final Option<Boolean> USE_COMPRESSION = Option.valueOf("useCompression");
+  public static final Option<String> RECEIVE_WINDOW_MODE = Option.valueOf("receiveWindowMode");
+  public static final Option<Integer> RECEIVE_WINDOW_SIZE = Option.valueOf("receiveWindowSize");
+  public static final Option<Integer> MAX_BUFFERED_BYTES = Option.valueOf("maxBufferedBytes");
+  public static final Option<Integer> MAX_PIPELINE_DEPTH = Option.valueOf("maxPipelineDepth");
+  public static final Option<Integer> MAX_PENDING_COMMANDS =
+      Option.valueOf("maxPendingCommands");
+  public static final Option<Boolean> USE_BULK_STMTS = Option.valueOf("useBulkStmts");
   public static final Option<Integer> PREPARE_CACHE_SIZE = Option.valueOf("prepareCacheSize");
   public static final Option<String> SSL_MODE = Option.valueOf("sslMode");
   public static final Option<Boolean> TRANSACTION_REPLAY = Option.valueOf("transactionReplay");
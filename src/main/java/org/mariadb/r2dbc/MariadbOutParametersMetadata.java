@@ -4,20 +4,21 @@
 package org.mariadb.r2dbc;
 
 import io.r2dbc.spi.*;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.ColumnNameIndex;
 
 final class MariadbOutParametersMetadata implements OutParametersMetadata {
 
   private final List<ColumnDefinitionPacket> metadataList;
-  private volatile Collection<String> columnNames;
+  private final ColumnNameIndex columnNameIndex;
 
-  MariadbOutParametersMetadata(List<ColumnDefinitionPacket> metadataList) {
+  MariadbOutParametersMetadata(
+      List<ColumnDefinitionPacket> metadataList, ColumnNameIndex columnNameIndex) {
     this.metadataList = metadataList;
+    this.columnNameIndex = columnNameIndex;
   }
 
   @Override
@@ -42,23 +43,12 @@ final class MariadbOutParametersMetadata implements OutParametersMetadata {
 
   private int getIndex(String name) {
     Assert.requireNonNull(name, "name must not be null");
-    for (int i = 0; i < this.metadataList.size(); i++) {
-      if (this.metadataList.get(i).getName().equalsIgnoreCase(name)) {
-        return i;
-      }
-    }
+    int index = columnNameIndex.indexOf(name);
+    if (index >= 0) return index;
 
     throw new IllegalArgumentException(
         String.format(
             "Column name '%s' does not exist in column names %s",
-            name, getColumnNames(this.metadataList)));
-  }
-
-  private Collection<String> getColumnNames(List<ColumnDefinitionPacket> columnMetadatas) {
-    List<String> columnNames = new ArrayList<>();
-    for (ColumnDefinitionPacket columnMetadata : columnMetadatas) {
-      columnNames.add(columnMetadata.getName());
-    }
-    return Collections.unmodifiableCollection(columnNames);
+            name, Collections.unmodifiableCollection(columnNameIndex.names())));
   }
 }
@@ -27,6 +27,6 @@ public class MariadbOutSegment extends MariadbReadable
 
   @Override
   public OutParametersMetadata getMetadata() {
-    return new MariadbOutParametersMetadata(metadataList);
+    return new MariadbOutParametersMetadata(metadataList, columnNameIndex);
   }
 }
@@ -9,17 +9,20 @@ import java.util.*;
 import org.mariadb.r2dbc.codec.RowDecoder;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.ColumnNameIndex;
 import reactor.util.annotation.Nullable;
 
 public class MariadbReadable implements Readable {
 
   private final RowDecoder decoder;
   protected final List<ColumnDefinitionPacket> metadataList;
+  protected final ColumnNameIndex columnNameIndex;
   private ByteBuf raw;
 
   MariadbReadable(RowDecoder decoder, List<ColumnDefinitionPacket> metadataList) {
     this.decoder = decoder;
     this.metadataList = metadataList;
+    this.columnNameIndex = new ColumnNameIndex(metadataList);
   }
 
   protected void updateRaw(ByteBuf data) {
@@ -33,6 +36,47 @@ public class MariadbReadable implements Readable {
     return decoder.get(index, getColumnsDef(index), type);
   }
 
+  public boolean isNull(int index) {
+    getColumnsDef(index);
+    return decoder.isNull(index);
+  }
+
+  public boolean isNull(String name) {
+    return isNull(getIndex(name));
+  }
+
+  public int getInt(int index) {
+    return decoder.getInt(index, getColumnsDef(index));
+  }
+
+  public int getInt(String name) {
+    return getInt(getIndex(name));
+  }
+
+  public long getLong(int index) {
+    return decoder.getLong(index, getColumnsDef(index));
+  }
+
+  public long getLong(String name) {
+    return getLong(getIndex(name));
+  }
+
+  public double getDouble(int index) {
+    return decoder.getDouble(index, getColumnsDef(index));
+  }
+
+  public double getDouble(String name) {
+    return getDouble(getIndex(name));
+  }
+
+  public boolean getBoolean(int index) {
+    return decoder.getBoolean(index, getColumnsDef(index));
+  }
+
+  public boolean getBoolean(String name) {
+    return getBoolean(getIndex(name));
+  }
+
   private ColumnDefinitionPacket getColumnsDef(int index) {
     if (index < 0) {
       throw new IndexOutOfBoundsException(String.format("Column index %d must be positive", index));
@@ -47,16 +91,10 @@ public class MariadbReadable implements Readable {
 
   private int getIndex(String name) {
     Assert.requireNonNull(name, "name must not be null");
-    for (int i = 0; i < this.metadataList.size(); i++) {
-      if (this.metadataList.get(i).getName().equalsIgnoreCase(name)) {
-        return i;
-      }
-    }
+    int index = columnNameIndex.indexOf(name);
+    if (index >= 0) return index;
 
-    Set<String> columnNames = new TreeSet<>();
-    for (ColumnDefinitionPacket columnDef : this.metadataList) {
-      columnNames.add(columnDef.getName());
-    }
+    Set<String> columnNames = new TreeSet<>(columnNameIndex.names());
     throw new NoSuchElementException(
         String.format(
             "Column name '%s' does not exist in column names %s",
@@ -0,0 +1,211 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.RowMetadata;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+
+/**
+ * Rows of a result-set decoded by column, filled from row segment current row. Chunk capacity grows
+ * up to maximum number of rows.
+ */
+public final class MariadbRowChunk
+    implements org.mariadb.r2dbc.api.MariadbRowChunk, Result.Segment {
+  private static final int INITIAL_CAPACITY = 128;
+
+  private static final byte OBJECT = 0;
+  private static final byte LONG = 1;
+  private static final byte DOUBLE = 2;
+
+  private final MariadbRowSegment segment;
+  private final int maxRows;
+  private final byte[] kinds;
+  private final long[][] longs;
+  private final double[][] doubles;
+  private final Object[][] objects;
+  private final BitSet[] nulls;
+  private int capacity;
+  private int size;
+
+  public MariadbRowChunk(MariadbRowSegment segment, int maxRows) {
+    this.segment = segment;
+    this.maxRows = maxRows;
+    this.capacity = Math.min(maxRows, INITIAL_CAPACITY);
+    List<ColumnDefinitionPacket> columns = segment.metadataList;
+    int columnCount = columns.size();
+    this.kinds = new byte[columnCount];
+    this.longs = new long[columnCount][];
+    this.doubles = new double[columnCount][];
+    this.objects = new Object[columnCount][];
+    this.nulls = new BitSet[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      kinds[i] = kind(columns.get(i));
+      switch (kinds[i]) {
+        case LONG:
+          longs[i] = new long[capacity];
+          break;
+        case DOUBLE:
+          doubles[i] = new double[capacity];
+          break;
+        default:
+          objects[i] = new Object[capacity];
+      }
+      nulls[i] = new BitSet();
+    }
+  }
+
+  private static byte kind(ColumnDefinitionPacket column) {
+    switch (column.getDataType()) {
+      case TINYINT:
+      case SMALLINT:
+      case MEDIUMINT:
+      case INTEGER:
+      case YEAR:
+        return LONG;
+      case BIGINT:
+        return column.isSigned() ? LONG : OBJECT;
+      case FLOAT:
+      case DOUBLE:
+        return DOUBLE;
+      default:
+        return OBJECT;
+    }
+  }
+
+  /** Add row segment current row to chunk. */
+  public void addRow() {
+    if (size == capacity) grow();
+    for (int i = 0; i < kinds.length; i++) {
+      if (segment.isNull(i)) {
+        nulls[i].set(size);
+        continue;
+      }
+      switch (kinds[i]) {
+        case LONG:
+          longs[i][size] = segment.getLong(i);
+          break;
+        case DOUBLE:
+          doubles[i][size] = segment.getDouble(i);
+          break;
+        default:
+          objects[i][size] = segment.get(i);
+      }
+    }
+    size++;
+  }
+
+  public boolean isFull() {
+    return size == maxRows;
+  }
+
+  private void grow() {
+    capacity = Math.min(maxRows, capacity << 1);
+    resize(capacity);
+  }
+
+  private void resize(int newCapacity) {
+    for (int i = 0; i < kinds.length; i++) {
+      switch (kinds[i]) {
+        case LONG:
+          longs[i] = Arrays.copyOf(longs[i], newCapacity);
+          break;
+        case DOUBLE:
+          doubles[i] = Arrays.copyOf(doubles[i], newCapacity);
+          break;
+        default:
+          objects[i] = Arrays.copyOf(objects[i], newCapacity);
+      }
+    }
+  }
+
+  /**
+   * Ends chunk filling, arrays being trimmed to chunk size.
+   *
+   * @return this chunk
+   */
+  public MariadbRowChunk complete() {
+    if (size < capacity) {
+      capacity = size;
+      resize(size);
+    }
+    return this;
+  }
+
+  @Override
+  public RowMetadata getMetadata() {
+    return segment.getMetadata();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isNull(int row, int column) {
+    return getNulls(column).get(checkRow(row));
+  }
+
+  @Override
+  public BitSet getNulls(int column) {
+    checkColumn(column);
+    return nulls[column];
+  }
+
+  @Override
+  public long[] getLongs(int column) {
+    checkColumn(column);
+    if (kinds[column] != LONG) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Column %d of type %s is not an integer column",
+              column, segment.metadataList.get(column).getDataType()));
+    }
+    return longs[column];
+  }
+
+  @Override
+  public double[] getDoubles(int column) {
+    checkColumn(column);
+    if (kinds[column] != DOUBLE) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Column %d of type %s is not a FLOAT or DOUBLE column",
+              column, segment.metadataList.get(column).getDataType()));
+    }
+    return doubles[column];
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    if (isNull(row, column)) return null;
+    switch (kinds[column]) {
+      case LONG:
+        return longs[column][row];
+      case DOUBLE:
+        return doubles[column][row];
+      default:
+        return objects[column][row];
+    }
+  }
+
+  private void checkColumn(int column) {
+    if (column < 0 || column >= kinds.length) {
+      throw new IndexOutOfBoundsException(
+          String.format("Column index %d not in range [0-%s]", column, kinds.length - 1));
+    }
+  }
+
+  private int checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException(
+          String.format("Row index %d not in range [0-%s]", row, size - 1));
+    }
+    return row;
+  }
+}
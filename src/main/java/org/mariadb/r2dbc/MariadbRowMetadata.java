@@ -7,14 +7,17 @@ import io.r2dbc.spi.RowMetadata;
 import java.util.*;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.ColumnNameIndex;
 
 final class MariadbRowMetadata implements RowMetadata {
 
   private final List<ColumnDefinitionPacket> metadataList;
+  private final ColumnNameIndex columnNameIndex;
   private volatile Collection<String> columnNames;
 
-  MariadbRowMetadata(List<ColumnDefinitionPacket> metadataList) {
+  MariadbRowMetadata(List<ColumnDefinitionPacket> metadataList, ColumnNameIndex columnNameIndex) {
     this.metadataList = metadataList;
+    this.columnNameIndex = columnNameIndex;
   }
 
   @Override
@@ -34,11 +37,8 @@ final class MariadbRowMetadata implements RowMetadata {
 
   private int getColumn(String name) {
     Assert.requireNonNull(name, "name must not be null");
-    for (int i = 0; i < this.metadataList.size(); i++) {
-      if (this.metadataList.get(i).getName().equalsIgnoreCase(name)) {
-        return i;
-      }
-    }
+    int index = columnNameIndex.indexOf(name);
+    if (index >= 0) return index;
     throw new NoSuchElementException(
         String.format(
             "Column name '%s' does not exist in column names %s", name, getColumnNames()));
@@ -59,11 +59,7 @@ final class MariadbRowMetadata implements RowMetadata {
   }
 
   private Collection<String> getColumnNames(List<ColumnDefinitionPacket> columnMetadatas) {
-    List<String> columnNames = new ArrayList<>();
-    for (ColumnDefinitionPacket columnMetadata : columnMetadatas) {
-      columnNames.add(columnMetadata.getName());
-    }
-    return Collections.unmodifiableCollection(columnNames);
+    return Collections.unmodifiableCollection(columnNameIndex.names());
   }
 
   @Override
@@ -78,9 +74,6 @@ final class MariadbRowMetadata implements RowMetadata {
 
   @Override
   public boolean contains(String columnName) {
-    if (this.columnNames == null) {
-      this.columnNames = getColumnNames(this.metadataList);
-    }
-    return this.columnNames.stream().anyMatch(columnName::equalsIgnoreCase);
+    return columnNameIndex.indexOf(columnName) >= 0;
   }
 }
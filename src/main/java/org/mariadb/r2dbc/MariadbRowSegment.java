@@ -5,14 +5,14 @@ package org.mariadb.r2dbc;
 
 import io.netty.buffer.ByteBuf;
 import io.r2dbc.spi.Result;
-import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import java.util.List;
+import org.mariadb.r2dbc.api.MariadbRow;
 import org.mariadb.r2dbc.codec.RowDecoder;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 
 public class MariadbRowSegment extends MariadbReadable
-    implements Result.RowSegment, Row, MariadbDataSegment {
+    implements Result.RowSegment, MariadbRow, MariadbDataSegment {
   private MariadbRowMetadata meta = null;
 
   public MariadbRowSegment(RowDecoder decoder, List<ColumnDefinitionPacket> metadataList) {
@@ -24,13 +24,13 @@ public class MariadbRowSegment extends MariadbReadable
   }
 
   @Override
-  public Row row() {
+  public MariadbRow row() {
     return this;
   }
 
   @Override
   public RowMetadata getMetadata() {
-    if (meta == null) meta = new MariadbRowMetadata(metadataList);
+    if (meta == null) meta = new MariadbRowMetadata(metadataList, columnNameIndex);
     return meta;
   }
 }
@@ -3,9 +3,14 @@
 
 package org.mariadb.r2dbc;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import org.mariadb.r2dbc.api.MariadbStatement;
@@ -13,16 +18,27 @@ import org.mariadb.r2dbc.client.Client;
 import org.mariadb.r2dbc.client.DecoderState;
 import org.mariadb.r2dbc.message.Protocol;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.client.BulkExecutePacket;
 import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.FetchPacket;
 import org.mariadb.r2dbc.message.client.PreparePacket;
 import org.mariadb.r2dbc.message.client.QueryPacket;
+import org.mariadb.r2dbc.message.client.ResetPreparePacket;
+import org.mariadb.r2dbc.message.server.EofPacket;
+import org.mariadb.r2dbc.message.server.ErrorPacket;
+import org.mariadb.r2dbc.message.server.OkPacket;
+import org.mariadb.r2dbc.message.server.RowPacket;
 import org.mariadb.r2dbc.util.Assert;
+import org.mariadb.r2dbc.util.BindEncodedValue;
 import org.mariadb.r2dbc.util.Binding;
 import org.mariadb.r2dbc.util.ServerNamedParamParser;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+import org.mariadb.r2dbc.util.constants.ServerStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.publisher.SynchronousSink;
 
 final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatement
     implements MariadbStatement {
@@ -94,14 +110,19 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
     if (prepareResult.get() == null && client.getPrepareCache() != null) {
       prepareResult.set(client.getPrepareCache().get(sql));
     }
-    if (this.getExpectedSize() != 0) {
+    if (this.getExpectedSize() != 0 || this.fetchSize > 0) {
       if (this.bindings.size() == 0) {
-        throw new IllegalStateException("No parameters have been set");
+        if (this.getExpectedSize() != 0) {
+          throw new IllegalStateException("No parameters have been set");
+        }
+        // cursor needs a binary execution, even without parameter
+        this.bindings.add(new Binding(0));
       }
 
       this.bindings.forEach(b -> b.validate(this.getExpectedSize()));
       return Flux.defer(
           () -> {
+            if (needExclusivePrepare()) return executeExclusive(sql, factory);
             if (this.bindings.size() == 1) {
               // single query
               Binding binding = this.bindings.pollFirst();
@@ -117,14 +138,9 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
 
                 if (prepareResult.get().incrementUse()) {
                   Flux<ServerMessage> messages =
-                      bindingParameterResults(binding, getExpectedSize())
-                          .flatMapMany(
-                              values ->
-                                  this.client.sendCommand(
-                                      new ExecutePacket(sql, prepareResult.get(), values),
-                                      DecoderState.QUERY_RESPONSE,
-                                      sql,
-                                      false))
+                      bindingParameterResults(
+                              client, prepareResult.get(), binding, getExpectedSize())
+                          .flatMapMany(values -> sendExecute(sql, prepareResult.get(), values))
                           .doFinally(s -> prepareResult.get().decrementUse(client));
                   return toResult(
                       Protocol.BINARY,
@@ -141,6 +157,8 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
               }
               Flux<ServerMessage> messages;
               if (configuration.allowPipelining()
+                  && !binding.hasLongData()
+                  && this.fetchSize == 0
                   && client.getVersion().isMariaDBServer()
                   && client.getVersion().versionGreaterOrEqual(10, 2, 0)) {
                 messages =
@@ -158,14 +176,10 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
                         .flatMapMany(
                             serverPrepareResult -> {
                               prepareResult.set(serverPrepareResult);
-                              return bindingParameterResults(binding, getExpectedSize())
+                              return bindingParameterResults(
+                                      client, serverPrepareResult, binding, getExpectedSize())
                                   .flatMapMany(
-                                      values ->
-                                          this.client.sendCommand(
-                                              new ExecutePacket(sql, prepareResult.get(), values),
-                                              DecoderState.QUERY_RESPONSE,
-                                              sql,
-                                              false));
+                                      values -> sendExecute(sql, serverPrepareResult, values));
                             });
               }
               return toResult(
@@ -184,49 +198,12 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
                       });
             }
             // batch
-            Iterator<Binding> iterator = this.bindings.iterator();
-            Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
-            AtomicBoolean canceled = new AtomicBoolean();
             return prepareIfNotDone(sql, factory)
-                .thenMany(
-                    bindingSink
-                        .asFlux()
-                        .map(
-                            binding -> {
-                              Flux<ServerMessage> messages =
-                                  bindingParameterResults(binding, getExpectedSize())
-                                      .flatMapMany(
-                                          values ->
-                                              this.client.sendCommand(
-                                                  new ExecutePacket(
-                                                      sql, prepareResult.get(), values),
-                                                  false))
-                                      .doOnComplete(
-                                          () -> tryNextBinding(iterator, bindingSink, canceled));
-
-                              return toResult(
-                                  Protocol.BINARY,
-                                  this.client,
-                                  messages,
-                                  factory,
-                                  prepareResult,
-                                  generatedColumns,
-                                  configuration);
-                            })
-                        .doOnSubscribe(
-                            it ->
-                                bindingSink.emitNext(
-                                    iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST))
-                        .doOnComplete(this.bindings::clear)
-                        .doFinally(
-                            s -> {
-                              if (prepareResult.get() != null) {
-                                prepareResult.get().decrementUse(client);
-                              }
-                            })
-                        .doOnCancel(() -> clearBindings(iterator, canceled))
-                        .doOnError(e -> clearBindings(iterator, canceled)))
-                .flatMap(mariadbResultFlux -> mariadbResultFlux);
+                .flatMapMany(
+                    prepare ->
+                        useBulk(prepare)
+                            ? executeBulk(sql, factory, prepare)
+                            : executeBatch(sql, factory));
           });
     } else {
       return Flux.defer(
@@ -240,6 +217,349 @@ final class MariadbServerParameterizedQueryStatement extends MariadbCommonStatem
     }
   }
 
+  /**
+   * Indicate if execution must use a prepared statement of its own. Long data is sent to the
+   * prepared statement before execute command, and a cursor stays open on the prepared statement
+   * until all rows are fetched: statement must then not be shared through prepare cache with
+   * concurrent executions of the same command.
+   *
+   * @return true if execution needs a prepared statement not shared
+   */
+  private boolean needExclusivePrepare() {
+    if (this.fetchSize > 0) return true;
+    for (Binding binding : this.bindings) {
+      if (binding.hasLongData()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Execute bindings one after the other, using a statement prepared for this execution only, and
+   * closed once execution ends. When execution is cancelled while a cursor may be open, cursor is
+   * closed before releasing statement.
+   *
+   * @param sql sql command
+   * @param factory exception factory
+   * @return results, one per binding
+   */
+  private Flux<org.mariadb.r2dbc.api.MariadbResult> executeExclusive(
+      String sql, ExceptionFactory factory) {
+    AtomicReference<ServerPrepareResult> exclusive = new AtomicReference<>();
+    boolean cursor = this.fetchSize > 0;
+    return Flux.usingWhen(
+            client.sendPrepare(new PreparePacket(sql, false), factory, sql),
+            prepare -> {
+              exclusive.set(prepare);
+              return Flux.fromIterable(this.bindings)
+                  .concatMap(
+                      binding ->
+                          toResult(
+                              Protocol.BINARY,
+                              this.client,
+                              bindingParameterResults(client, prepare, binding, getExpectedSize())
+                                  .flatMapMany(values -> sendExecute(sql, prepare, values)),
+                              factory,
+                              exclusive,
+                              generatedColumns,
+                              configuration));
+            },
+            prepare -> release(prepare),
+            (prepare, e) -> release(prepare),
+            prepare ->
+                cursor
+                    ? client
+                        .sendCommand(new ResetPreparePacket(prepare.getStatementId()), false)
+                        .handle(factory::handleErrorResponse)
+                        .then()
+                        .doFinally(s -> prepare.decrementUse(client))
+                    : release(prepare))
+        .doOnComplete(this.bindings::clear)
+        .doOnCancel(() -> this.bindings.forEach(Binding::clear))
+        .doOnError(e -> this.bindings.forEach(Binding::clear));
+  }
+
+  private Mono<Void> release(ServerPrepareResult prepare) {
+    return Mono.fromRunnable(() -> prepare.decrementUse(client));
+  }
+
+  /**
+   * Execute batch, sending an execute command per binding. When pipelining is permitted, commands
+   * are sent back-to-back, otherwise next binding is only encoded and sent once previous execution
+   * has completed.
+   *
+   * @param sql sql command
+   * @param factory exception factory
+   * @return results, one per binding
+   */
+  private Flux<org.mariadb.r2dbc.api.MariadbResult> executeBatch(
+      String sql, ExceptionFactory factory) {
+    if (canPipelineBatch()) {
+      return pipelineBatch(
+              binding ->
+                  toResult(
+                      Protocol.BINARY,
+                      this.client,
+                      bindingParameterResults(binding, getExpectedSize())
+                          .flatMapMany(values -> sendExecute(sql, prepareResult.get(), values)),
+                      factory,
+                      prepareResult,
+                      generatedColumns,
+                      configuration))
+          .doFinally(
+              s -> {
+                if (prepareResult.get() != null) {
+                  prepareResult.get().decrementUse(client);
+                }
+              });
+    }
+    Iterator<Binding> iterator = this.bindings.iterator();
+    Sinks.Many<Binding> bindingSink = Sinks.many().unicast().onBackpressureBuffer();
+    AtomicBoolean canceled = new AtomicBoolean();
+    return bindingSink
+        .asFlux()
+        .map(
+            binding -> {
+              Flux<ServerMessage> messages =
+                  bindingParameterResults(client, prepareResult.get(), binding, getExpectedSize())
+                      .flatMapMany(values -> sendExecute(sql, prepareResult.get(), values))
+                      .doOnComplete(() -> tryNextBinding(iterator, bindingSink, canceled));
+
+              return toResult(
+                  Protocol.BINARY,
+                  this.client,
+                  messages,
+                  factory,
+                  prepareResult,
+                  generatedColumns,
+                  configuration);
+            })
+        .doOnSubscribe(
+            it -> bindingSink.emitNext(iterator.next(), Sinks.EmitFailureHandler.FAIL_FAST))
+        .doOnComplete(this.bindings::clear)
+        .doFinally(
+            s -> {
+              if (prepareResult.get() != null) {
+                prepareResult.get().decrementUse(client);
+              }
+            })
+        .doOnCancel(() -> clearBindings(iterator, canceled))
+        .doOnError(e -> clearBindings(iterator, canceled))
+        .flatMap(mariadbResultFlux -> mariadbResultFlux);
+  }
+
+  /**
+   * Indicate if batch can be executed using COM_STMT_BULK_EXECUTE commands. Bulk is only used if
+   * enabled by configuration and server, and when server returns a result per parameter set (unit
+   * results, since MariaDB 11.5): batch must emit one result per binding, whatever the way it is
+   * executed. Parameters must be encoded synchronously, without being streamed before execution.
+   * Bulk commands cannot return result-sets, and generated values, either returned by RETURNING
+   * result-sets or limited to auto-increment ids, are retrieved with one execution per binding.
+   *
+   * @param prepare server prepared statement
+   * @return true if batch can use bulk commands
+   */
+  private boolean useBulk(ServerPrepareResult prepare) {
+    long bulkCapabilities =
+        Capabilities.MARIADB_CLIENT_STMT_BULK_OPERATIONS
+            | Capabilities.MARIADB_CLIENT_BULK_UNIT_RESULTS;
+    if (!configuration.useBulkStmts()
+        || generatedColumns != null
+        || prepare.getColumns().length > 0
+        || (client.getContext().getClientCapabilities() & bulkCapabilities) != bulkCapabilities) {
+      return false;
+    }
+    for (Binding binding : this.bindings) {
+      if (binding.hasLongData() || !binding.isSynchronous()) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Execute batch using COM_STMT_BULK_EXECUTE commands. Parameter sets are grouped in as few
+   * commands as possible, a new command being needed only when server max_allowed_packet is
+   * reached or when a parameter type changes. Unit results of each command are split into one
+   * result per binding.
+   *
+   * @param sql sql command
+   * @param factory exception factory
+   * @param prepare server prepared statement
+   * @return results, one per binding
+   */
+  private Flux<org.mariadb.r2dbc.api.MariadbResult> executeBulk(
+      String sql, ExceptionFactory factory, ServerPrepareResult prepare) {
+    return maxAllowedPacket()
+        .map(maxAllowedPacket -> bulkPackets(prepare, maxAllowedPacket))
+        .flatMapMany(
+            packets ->
+                Flux.range(0, packets.size())
+                    // a command not polled has not been sent, and is released when execution ends
+                    .concatMap(
+                        i ->
+                            toResult(
+                                Protocol.BINARY,
+                                this.client,
+                                this.client
+                                    .sendCommand(
+                                        packets.poll(), DecoderState.QUERY_RESPONSE, sql, false)
+                                    .handle(MariadbServerParameterizedQueryStatement::unitResult),
+                                factory,
+                                prepareResult,
+                                null,
+                                configuration))
+                    .doFinally(
+                        s -> {
+                          BulkExecutePacket packet;
+                          while ((packet = packets.poll()) != null) packet.releaseEncodedBinds();
+                        }))
+        .doFinally(s -> prepare.decrementUse(client))
+        .doOnComplete(this.bindings::clear)
+        .doOnCancel(() -> this.bindings.forEach(Binding::clear))
+        .doOnError(e -> this.bindings.forEach(Binding::clear));
+  }
+
+  /**
+   * Server max_allowed_packet, read once per connection when bulk is first used.
+   *
+   * @return max_allowed_packet
+   */
+  private Mono<Integer> maxAllowedPacket() {
+    int maxAllowedPacket = client.getContext().getMaxAllowedPacket();
+    if (maxAllowedPacket > 0) return Mono.just(maxAllowedPacket);
+    String sql = "SELECT @@max_allowed_packet";
+    return toResult(
+            Protocol.TEXT,
+            client,
+            client.sendCommand(new QueryPacket(sql), DecoderState.QUERY_RESPONSE, sql, true),
+            ExceptionFactory.withSql(sql),
+            null,
+            null,
+            configuration)
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .single()
+        .doOnNext(client.getContext()::setMaxAllowedPacket);
+  }
+
+  /**
+   * Convert unit results of a bulk command into one OK packet per parameter set. Each row of unit
+   * results contains generated id and affected rows, as BIGINT. Other messages describe unit
+   * results, or total of affected rows, and are skipped.
+   *
+   * @param message server message
+   * @param sink sink
+   */
+  private static void unitResult(ServerMessage message, SynchronousSink<ServerMessage> sink) {
+    if (message instanceof RowPacket) {
+      ByteBuf raw = ((RowPacket) message).getRaw();
+      try {
+        raw.skipBytes(1); // skip 0x00 header
+        byte nullBitmap = raw.readByte();
+        // null bitmap has an offset of 2 bits in binary rows
+        long lastInsertId = (nullBitmap & 4) != 0 ? 0 : raw.readLongLE();
+        long affectedRows = (nullBitmap & 8) != 0 ? 0 : raw.readLongLE();
+        sink.next(new OkPacket(null, affectedRows, lastInsertId, (short) 0, (short) 0, false));
+      } finally {
+        ((RowPacket) message).release();
+      }
+      return;
+    }
+    if (message instanceof ErrorPacket) sink.next(message);
+  }
+
+  /**
+   * Encode all bindings into bulk commands. Parameters being synchronous, encoding doesn't need
+   * any reactive operator. Commands are released if an encoding fails, as well as the parameters
+   * being added.
+   *
+   * @param prepare server prepared statement
+   * @param maxAllowedPacket server max_allowed_packet
+   * @return bulk commands
+   */
+  private Queue<BulkExecutePacket> bulkPackets(ServerPrepareResult prepare, int maxAllowedPacket) {
+    Queue<BulkExecutePacket> packets = new ConcurrentLinkedQueue<>();
+    List<BindEncodedValue> values = null;
+    try {
+      BulkExecutePacket packet = newBulkPacket(prepare, maxAllowedPacket);
+      packets.add(packet);
+      for (Binding binding : this.bindings) {
+        values = encodeParameters(binding.getBindResultParameters(getExpectedSize()));
+        if (!packet.add(values)) {
+          packet = newBulkPacket(prepare, maxAllowedPacket);
+          packets.add(packet);
+          packet.add(values);
+        }
+        values = null;
+      }
+    } catch (RuntimeException e) {
+      if (values != null) {
+        values.forEach(
+            v -> {
+              if (v.getValue() != null) ReferenceCountUtil.safeRelease(v.getValue());
+            });
+      }
+      packets.forEach(BulkExecutePacket::releaseEncodedBinds);
+      throw e;
+    }
+    return packets;
+  }
+
+  private BulkExecutePacket newBulkPacket(ServerPrepareResult prepare, int maxAllowedPacket) {
+    return new BulkExecutePacket(
+        prepare.getStatementId(),
+        getExpectedSize(),
+        maxAllowedPacket,
+        client.getContext().getByteBufAllocator());
+  }
+
+  /**
+   * Send execute command. When a fetch size is set and statement returns a result-set, a read-only
+   * cursor is opened, rows being then fetched by batch of fetch size rows. Next batch is only
+   * requested once previous one has been consumed, bounding memory whatever result-set size.
+   * Cursors are only opened on statements prepared for one execution, closing cursor on
+   * cancellation being done by {@link #executeExclusive(String, ExceptionFactory)}.
+   *
+   * @param sql sql command
+   * @param prepare server prepared statement
+   * @param values encoded parameters
+   * @return server messages
+   */
+  private Flux<ServerMessage> sendExecute(
+      String sql, ServerPrepareResult prepare, List<BindEncodedValue> values) {
+    int rows = this.fetchSize;
+    boolean cursor = rows > 0 && generatedColumns == null && prepare.getColumns().length > 0;
+    ExecutePacket executePacket = new ExecutePacket(sql, prepare, values, cursor);
+    Flux<ServerMessage> messages =
+        this.client.sendCommand(executePacket, DecoderState.QUERY_RESPONSE, sql, false);
+    if (!cursor) return messages;
+
+    int statementId = prepare.getStatementId();
+    AtomicBoolean cursorOpen = new AtomicBoolean();
+    Flux<ServerMessage> fetches =
+        Flux.defer(
+                () -> {
+                  FetchPacket fetchPacket = new FetchPacket(statementId, rows);
+                  return this.client.sendCommand(
+                      fetchPacket, DecoderState.FETCH_RESPONSE, sql, false);
+                })
+            .doOnNext(
+                msg -> {
+                  if (msg.resultSetEnd() || msg instanceof ErrorPacket) cursorOpen.set(false);
+                })
+            .repeat(cursorOpen::get)
+            // EOF ending a batch is only meaningful for fetching
+            .filter(msg -> !(msg instanceof EofPacket) || msg.resultSetEnd());
+
+    return messages
+        .doOnNext(
+            msg -> {
+              if (msg instanceof EofPacket
+                  && !msg.resultSetEnd()
+                  && (((EofPacket) msg).getServerStatus() & ServerStatus.CURSOR_EXISTS) > 0) {
+                cursorOpen.set(true);
+              }
+            })
+        .concatWith(Flux.defer(() -> cursorOpen.get() ? fetches : Flux.empty()));
+  }
+
   private Mono<ServerPrepareResult> prepareIfNotDone(String sql, ExceptionFactory factory) {
     // prepare command, if not already done
     if (prepareResult.get() == null) {
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc;
+
+/** Indicate how many server packets are requested at once from socket. */
+public enum ReceiveWindowMode {
+
+  // fixed number of packets
+  PACKETS("packets", 256),
+
+  // number of packets computed from a byte budget and observed packet size
+  BYTES("bytes", 1024 * 1024),
+
+  // number of packets adapted to consumer drain rate, limited by a byte budget
+  ADAPTIVE("adaptive", 1024 * 1024);
+
+  private final String value;
+  private final int defaultSize;
+
+  ReceiveWindowMode(String value, int defaultSize) {
+    this.value = value;
+    this.defaultSize = defaultSize;
+  }
+
+  /**
+   * Default window size, in packets for {@link #PACKETS} mode, in bytes otherwise.
+   *
+   * @return default window size
+   */
+  public int getDefaultSize() {
+    return defaultSize;
+  }
+
+  public static ReceiveWindowMode from(String value) {
+    for (ReceiveWindowMode mode : values()) {
+      if (mode.value.equalsIgnoreCase(value) || mode.name().equalsIgnoreCase(value)) {
+        return mode;
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("Wrong argument value '%s' for ReceiveWindowMode", value));
+  }
+}
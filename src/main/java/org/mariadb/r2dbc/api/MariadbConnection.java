@@ -76,4 +76,24 @@ public interface MariadbConnection extends Connection {
   String getHost();
 
   int getPort();
+
+  /**
+   * Number of commands waiting to be sent, because maximum pipeline depth is reached. Default
+   * implementation returns 0, for implementations not queuing commands.
+   *
+   * @return pending command number
+   */
+  default int getPendingCommandCount() {
+    return 0;
+  }
+
+  /**
+   * Size of received rows waiting for a slow consumer, bounded by maxBufferedBytes option. Default
+   * implementation returns 0, for implementations not buffering rows.
+   *
+   * @return buffered bytes
+   */
+  default long getBufferedBytes() {
+    return 0;
+  }
 }
@@ -22,8 +22,21 @@ public interface MariadbResult extends Result {
   @Override
   <T> Flux<T> map(Function<? super Readable, ? extends T> mappingFunction);
 
+  /**
+   * Map rows by chunks of consecutive rows decoded by column, permitting to process large
+   * result-sets with one signal for many rows. Last chunk may contain fewer rows. Rows not
+   * matching {@link #filter(java.util.function.Predicate)} are not part of chunks.
+   *
+   * @param rowsPerChunk maximum number of rows per chunk
+   * @param mappingFunction chunk mapping function
+   * @param <T> mapped type
+   * @return mapped chunks
+   */
+  <T> Flux<T> mapChunks(
+      int rowsPerChunk, Function<? super MariadbRowChunk, ? extends T> mappingFunction);
+
   @Override
-  Result filter(Predicate<Segment> filter);
+  MariadbResult filter(Predicate<Segment> filter);
 
   @Override
   <T> Flux<T> flatMap(Function<Segment, ? extends Publisher<? extends T>> mappingFunction);
@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.api;
+
+import io.r2dbc.spi.Row;
+
+/**
+ * MariaDB row, adding primitive accessors that decode values without boxing. Primitive accessors
+ * throw {@link IllegalArgumentException} when value is null, {@link #isNull(int)} permitting to
+ * check it beforehand.
+ */
+public interface MariadbRow extends Row {
+
+  boolean isNull(int index);
+
+  boolean isNull(String name);
+
+  int getInt(int index);
+
+  int getInt(String name);
+
+  long getLong(int index);
+
+  long getLong(String name);
+
+  double getDouble(int index);
+
+  double getDouble(String name);
+
+  boolean getBoolean(int index);
+
+  boolean getBoolean(String name);
+}
@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.api;
+
+import io.r2dbc.spi.RowMetadata;
+import java.util.BitSet;
+
+/**
+ * Consecutive rows of a result-set, decoded by column. Integer columns (except unsigned BIGINT) are
+ * available as {@code long[]}, FLOAT and DOUBLE columns as {@code double[]}, null values being
+ * indicated by {@link #getNulls(int)} bitmap. Other columns are decoded to their default java type.
+ *
+ * <p>Arrays returned have exactly {@link #size()} elements, element i corresponding to row i of
+ * chunk.
+ */
+public interface MariadbRowChunk {
+
+  RowMetadata getMetadata();
+
+  /**
+   * Number of rows in chunk.
+   *
+   * @return number of rows
+   */
+  int size();
+
+  boolean isNull(int row, int column);
+
+  /**
+   * Null bitmap of column: bit i is set when value of row i is null.
+   *
+   * @param column column index
+   * @return null bitmap
+   */
+  BitSet getNulls(int column);
+
+  /**
+   * Values of an integer column. Null values are set to 0.
+   *
+   * @param column column index
+   * @return column values
+   * @throws IllegalArgumentException if column is not an integer column
+   */
+  long[] getLongs(int column);
+
+  /**
+   * Values of a FLOAT or DOUBLE column. Null values are set to 0.
+   *
+   * @param column column index
+   * @return column values
+   * @throws IllegalArgumentException if column is not a FLOAT or DOUBLE column
+   */
+  double[] getDoubles(int column);
+
+  /**
+   * Value of a row. Integer, FLOAT and DOUBLE values are returned as {@link Long} and {@link
+   * Double}.
+   *
+   * @param row row index in chunk
+   * @param column column index
+   * @return value, or null
+   */
+  Object get(int row, int column);
+}
@@ -26,6 +26,16 @@ public interface MariadbStatement extends Statement {
   @Override
   Flux<MariadbResult> execute();
 
+  /**
+   * Configures the number of rows to fetch at once. When set for a server prepared statement
+   * returning a result-set, a read-only cursor is opened on server, rows being then fetched by
+   * batch of {@code rows} rows using COM_STMT_FETCH, following subscriber demand. Hint is ignored
+   * for other statements. Default value of 0 fetches the whole result-set.
+   *
+   * @param rows number of rows to fetch
+   * @return this statement
+   * @throws IllegalArgumentException if the number of rows is negative
+   */
   @Override
   default MariadbStatement fetchSize(int rows) {
     return this;
@@ -10,6 +10,7 @@ import org.mariadb.r2dbc.message.ClientMessage;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.ServerMessage;
 import org.mariadb.r2dbc.message.client.ExecutePacket;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
 import org.mariadb.r2dbc.message.client.PreparePacket;
 import org.mariadb.r2dbc.message.client.SslRequestPacket;
 import org.mariadb.r2dbc.message.server.InitialHandshakePacket;
@@ -25,6 +26,16 @@ public interface Client {
 
   void sendCommandWithoutResult(ClientMessage requests);
 
+  /**
+   * Send a COM_STMT_SEND_LONG_DATA packet. Server doesn't respond to those packets, returned Mono
+   * completing when packet has been written to socket, permitting to stream huge parameters with
+   * constant memory.
+   *
+   * @param packet long data packet
+   * @return Mono completing when packet is written
+   */
+  Mono<Void> sendLongData(LongDataPacket packet);
+
   Flux<ServerMessage> sendCommand(ClientMessage requests, boolean canSafelyBeReExecuted);
 
   Flux<ServerMessage> sendCommand(
@@ -75,4 +86,8 @@ public interface Client {
   long getThreadId();
 
   HostAddress getHostAddress();
+
+  int getPendingCommandCount();
+
+  long getBufferedBytes();
 }
@@ -227,6 +227,43 @@ public enum DecoderState implements DecoderStateInterface {
     }
   },
 
+  FETCH_RESPONSE {
+    public DecoderState decoder(short val, int len) {
+      switch (val) {
+        case 254:
+          if (len < 0xffffff) {
+            return FETCH_EOF;
+          } else {
+            // normal ROW
+            return FETCH_ROW;
+          }
+        case 255: // 0xFF
+          return ERROR;
+        default:
+          return FETCH_ROW;
+      }
+    }
+  },
+
+  FETCH_ROW {
+    @Override
+    public ServerMessage decode(ByteBuf body, Sequencer sequencer, ServerMsgDecoder decoder) {
+      return new RowPacket(body);
+    }
+
+    @Override
+    public DecoderState next(ServerMsgDecoder decoder) {
+      return FETCH_RESPONSE;
+    }
+  },
+
+  FETCH_EOF {
+    @Override
+    public ServerMessage decode(ByteBuf body, Sequencer sequencer, ServerMsgDecoder decoder) {
+      return EofPacket.decodeFetch(sequencer, body, decoder.getContext());
+    }
+  },
+
   PREPARE_RESPONSE {
 
     public DecoderState decoder(short val, int len) {
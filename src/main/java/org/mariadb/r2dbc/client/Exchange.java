@@ -42,6 +42,10 @@ public class Exchange {
     return demand.get() > 0;
   }
 
+  public long getDemand() {
+    return demand.get();
+  }
+
   public void emit(ServerMessage srvMsg) {
     demand.decrementAndGet();
     if (this.sink.isCancelled()) {
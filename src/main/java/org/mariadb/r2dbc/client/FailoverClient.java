@@ -9,7 +9,6 @@ import io.r2dbc.spi.TransactionDefinition;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.HaMode;
@@ -36,23 +35,19 @@ public class FailoverClient implements Client {
 
   private final AtomicReference<Client> client = new AtomicReference<>();
   private final MariadbConnectionConfiguration conf;
-  private final ReentrantLock lock;
 
   private static final Mono<Boolean> reconnectIfNeeded(
-      MariadbConnectionConfiguration conf, ReentrantLock lock, AtomicReference<Client> client) {
+      MariadbConnectionConfiguration conf, AtomicReference<Client> client) {
     if (client.get().isConnected()) return Mono.just(Boolean.TRUE);
-    return reconnectFallbackReplay(null, conf, lock, client, true, false, null)
+    return reconnectFallbackReplay(null, conf, client, true, false, null)
         .then(Mono.just(Boolean.TRUE));
   }
 
   private static final Mono<ServerMessage> reconnectFallback(
-      Throwable t,
-      MariadbConnectionConfiguration conf,
-      ReentrantLock lock,
-      AtomicReference<Client> client) {
+      Throwable t, MariadbConnectionConfiguration conf, AtomicReference<Client> client) {
     HaMode.failHost(client.get().getHostAddress());
     return conf.getHaMode()
-        .connectHost(conf, lock, false)
+        .connectHost(conf, false)
         .flatMap(
             c ->
                 syncNewState(client.get(), c, conf)
@@ -71,14 +66,13 @@ public class FailoverClient implements Client {
   private static final Mono<Client> reconnectFallbackReplay(
       Throwable throwable,
       MariadbConnectionConfiguration conf,
-      ReentrantLock lock,
       AtomicReference<Client> client,
       boolean canSafelyBeReExecuted,
       boolean firstMsgReceived,
       ClientMessage request) {
     HaMode.failHost(client.get().getHostAddress());
     return conf.getHaMode()
-        .connectHost(conf, lock, false)
+        .connectHost(conf, false)
         .onErrorMap(
             t ->
                 new R2dbcTransientResourceException(
@@ -105,10 +99,9 @@ public class FailoverClient implements Client {
             });
   }
 
-  public FailoverClient(MariadbConnectionConfiguration conf, ReentrantLock lock, Client client) {
+  public FailoverClient(MariadbConnectionConfiguration conf, Client client) {
     this.client.set(client);
     this.conf = conf;
-    this.lock = lock;
   }
 
   private static Mono<Void> syncNewState(
@@ -291,6 +284,11 @@ public class FailoverClient implements Client {
     client.get().sendCommandWithoutResult(requests);
   }
 
+  @Override
+  public Mono<Void> sendLongData(LongDataPacket packet) {
+    return client.get().sendLongData(packet);
+  }
+
   @Override
   public Flux<ServerMessage> sendCommand(ClientMessage requests, boolean canSafelyBeReExecuted) {
     return sendCommand(requests, DecoderState.QUERY_RESPONSE, null, canSafelyBeReExecuted);
@@ -309,7 +307,7 @@ public class FailoverClient implements Client {
       String sql,
       boolean canSafelyBeReExecuted) {
     AtomicBoolean firstMsgReceived = new AtomicBoolean(false);
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMapMany(
             reconnected -> {
               Mono<ClientMessage> clientMsg;
@@ -345,7 +343,6 @@ public class FailoverClient implements Client {
                                   reconnectFallbackReplay(
                                           t,
                                           conf,
-                                          lock,
                                           client,
                                           canSafelyBeReExecuted,
                                           firstMsgReceived.get(),
@@ -398,7 +395,7 @@ public class FailoverClient implements Client {
   public Flux<ServerMessage> sendCommand(
       PreparePacket preparePacket, ExecutePacket executePacket, boolean canSafelyBeReExecuted) {
     AtomicBoolean firstMsgReceived = new AtomicBoolean(false);
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMapMany(
             cc ->
                 client
@@ -422,7 +419,6 @@ public class FailoverClient implements Client {
                             reconnectFallbackReplay(
                                     t,
                                     conf,
-                                    lock,
                                     client,
                                     canSafelyBeReExecuted,
                                     firstMsgReceived.get(),
@@ -490,7 +486,7 @@ public class FailoverClient implements Client {
 
   @Override
   public Mono<Void> beginTransaction() {
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMap(
             cc ->
                 client
@@ -499,14 +495,14 @@ public class FailoverClient implements Client {
                     .onErrorResume(
                         FAIL_PREDICATE,
                         t ->
-                            reconnectFallbackReplay(t, conf, lock, client, true, false, null)
+                            reconnectFallbackReplay(t, conf, client, true, false, null)
                                 .map(c -> c.beginTransaction())
                                 .flatMap(flux -> flux)));
   }
 
   @Override
   public Mono<Void> beginTransaction(TransactionDefinition definition) {
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMap(
             cc ->
                 client
@@ -515,7 +511,7 @@ public class FailoverClient implements Client {
                     .onErrorResume(
                         FAIL_PREDICATE,
                         t ->
-                            reconnectFallbackReplay(t, conf, lock, client, true, true, null)
+                            reconnectFallbackReplay(t, conf, client, true, true, null)
                                 .map(c -> c.beginTransaction(definition))
                                 .flatMap(flux -> flux)));
   }
@@ -526,12 +522,12 @@ public class FailoverClient implements Client {
     return client
         .get()
         .commitTransaction()
-        .doOnError(FAIL_PREDICATE, t -> reconnectFallback(t, conf, lock, client));
+        .doOnError(FAIL_PREDICATE, t -> reconnectFallback(t, conf, client));
   }
 
   @Override
   public Mono<Void> rollbackTransaction() {
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMap(
             cc ->
                 client
@@ -540,7 +536,7 @@ public class FailoverClient implements Client {
                     .onErrorResume(
                         FAIL_PREDICATE,
                         t ->
-                            reconnectFallbackReplay(t, conf, lock, client, true, true, null)
+                            reconnectFallbackReplay(t, conf, client, true, true, null)
                                 .map(c -> c.rollbackTransaction())
                                 .flatMap(flux -> flux)));
   }
@@ -553,9 +549,9 @@ public class FailoverClient implements Client {
       return client
           .get()
           .setAutoCommit(true)
-          .doOnError(FAIL_PREDICATE, t -> reconnectFallback(t, conf, lock, client));
+          .doOnError(FAIL_PREDICATE, t -> reconnectFallback(t, conf, client));
     }
-    return reconnectIfNeeded(conf, lock, client)
+    return reconnectIfNeeded(conf, client)
         .flatMap(
             cc ->
                 client
@@ -564,7 +560,7 @@ public class FailoverClient implements Client {
                     .onErrorResume(
                         FAIL_PREDICATE,
                         t ->
-                            reconnectFallbackReplay(t, conf, lock, client, true, true, null)
+                            reconnectFallbackReplay(t, conf, client, true, true, null)
                                 .map(c -> c.setAutoCommit(false))
                                 .flatMap(flux -> flux)));
   }
@@ -577,7 +573,7 @@ public class FailoverClient implements Client {
         .onErrorResume(
             FAIL_PREDICATE,
             t ->
-                reconnectFallbackReplay(t, conf, lock, client, true, true, null)
+                reconnectFallbackReplay(t, conf, client, true, true, null)
                     .map(c -> c.rollbackTransactionToSavepoint(name))
                     .flatMap(flux -> flux));
   }
@@ -591,4 +587,14 @@ public class FailoverClient implements Client {
   public HostAddress getHostAddress() {
     return client.get().getHostAddress();
   }
+
+  @Override
+  public int getPendingCommandCount() {
+    return client.get().getPendingCommandCount();
+  }
+
+  @Override
+  public long getBufferedBytes() {
+    return client.get().getBufferedBytes();
+  }
 }
@@ -0,0 +1,219 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageCodec;
+import io.netty.handler.codec.DecoderException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed protocol handler.
+ *
+ * <p>When compression has been negotiated, standard packets are wrapped in compressed packets,
+ * with a 7 bytes header:
+ *
+ * <ul>
+ *   <li>3 bytes compressed payload length
+ *   <li>1 byte compressed sequence
+ *   <li>3 bytes uncompressed payload length, 0 if payload is not compressed
+ * </ul>
+ *
+ * This handler must be placed before {@link MariadbFrameDecoder}: inbound, compressed packets are
+ * inflated to a standard packet stream, outbound each command is deflated (if big enough for
+ * compression to be worth it).
+ *
+ * <p>Compressed sequence restarts for each command, and server response continues the sequence of
+ * the command. Since commands can be pipelined, the sequence a response starts with is queued for
+ * each command expecting a response. Server compressed packets don't span multiple responses, but
+ * the end of a response isn't known at this level: a packet must either continue current response
+ * sequence or start the next response. After wrap-around both can match, so the number of
+ * responses already started is tracked as a range.
+ */
+public class MariadbCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+
+  /** Packet smaller than this value are sent uncompressed */
+  public static final int MIN_COMPRESSION_SIZE = 1536;
+
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+  private final Deflater deflater = new Deflater();
+  private final Inflater inflater = new Inflater();
+  private final byte[] deflateBuffer = new byte[8192];
+
+  // first sequence of expected responses, in command order
+  private final ArrayDeque<Integer> responseSequences = new ArrayDeque<>();
+  // number of queued responses that may already have started
+  private int maybeStarted = 0;
+  private int nextSequence = -1;
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, ByteBuf msg, ByteBuf out) {
+    if (!msg.isReadable()) return;
+    // each write correspond to a new command, compressed sequence restart
+    boolean expectResponse = expectResponse(msg);
+    byte compressSequence = 0;
+    do {
+      int length = Math.min(MAX_PACKET_LENGTH, msg.readableBytes());
+      if (length < MIN_COMPRESSION_SIZE) {
+        writeUncompressed(msg, length, compressSequence++, out);
+        continue;
+      }
+
+      byte[] data;
+      int offset;
+      if (msg.hasArray()) {
+        data = msg.array();
+        offset = msg.arrayOffset() + msg.readerIndex();
+      } else {
+        data = new byte[length];
+        msg.getBytes(msg.readerIndex(), data);
+        offset = 0;
+      }
+
+      int headerIndex = out.writerIndex();
+      out.writeZero(7);
+      deflater.reset();
+      deflater.setInput(data, offset, length);
+      deflater.finish();
+      int compressedLength = 0;
+      while (!deflater.finished() && compressedLength < length) {
+        int len = deflater.deflate(deflateBuffer);
+        out.writeBytes(deflateBuffer, 0, len);
+        compressedLength += len;
+      }
+
+      if (compressedLength >= length) {
+        // compression doesn't permit to gain anything
+        out.writerIndex(headerIndex);
+        writeUncompressed(msg, length, compressSequence++, out);
+        continue;
+      }
+
+      out.setMediumLE(headerIndex, compressedLength);
+      out.setByte(headerIndex + 3, compressSequence++);
+      out.setMediumLE(headerIndex + 4, length);
+      msg.skipBytes(length);
+    } while (msg.readableBytes() > 0);
+    if (expectResponse) responseSequences.add(compressSequence & 0xff);
+  }
+
+  /**
+   * Indicate if server will respond to command. COM_QUIT, COM_STMT_SEND_LONG_DATA and
+   * COM_STMT_CLOSE have no response.
+   *
+   * @param msg command, with standard packet header
+   * @return true if a response is expected
+   */
+  private static boolean expectResponse(ByteBuf msg) {
+    if (msg.readableBytes() < 5) return true;
+    int command = msg.getUnsignedByte(msg.readerIndex() + 4);
+    return command != 0x01 && command != 0x18 && command != 0x19;
+  }
+
+  /**
+   * Validate compressed packet sequence.
+   *
+   * @param sequence received sequence
+   */
+  private void checkSequence(int sequence) {
+    // possible numbers of started queued responses after this packet
+    int min = Integer.MAX_VALUE;
+    int max = -1;
+    if (sequence == nextSequence) {
+      min = 0;
+      max = maybeStarted;
+    }
+    int i = 0;
+    for (int start : responseSequences) {
+      if (i > maybeStarted) break;
+      if (start == sequence) {
+        min = Math.min(min, i + 1);
+        max = Math.max(max, i + 1);
+      }
+      i++;
+    }
+    if (max < 0) {
+      throw new DecoderException(
+          String.format(
+              "Compressed packets out of order: got sequence %s, expected %s",
+              sequence, nextSequence >= 0 ? nextSequence : responseSequences.peek()));
+    }
+    // responses known to have started don't need to be tracked anymore
+    for (int j = 0; j < min; j++) responseSequences.poll();
+    maybeStarted = max - min;
+    nextSequence = (sequence + 1) & 0xff;
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) {
+    while (buf.readableBytes() >= 7) {
+      int compressedLength = buf.getUnsignedMediumLE(buf.readerIndex());
+
+      // packet not complete
+      if (buf.readableBytes() < compressedLength + 7) return;
+
+      checkSequence(buf.getUnsignedByte(buf.readerIndex() + 3));
+      int uncompressedLength = buf.getUnsignedMediumLE(buf.readerIndex() + 4);
+      buf.skipBytes(7);
+
+      if (uncompressedLength == 0) {
+        // packet sent uncompressed
+        out.add(buf.readRetainedSlice(compressedLength));
+        continue;
+      }
+
+      byte[] data;
+      int offset;
+      if (buf.hasArray()) {
+        data = buf.array();
+        offset = buf.arrayOffset() + buf.readerIndex();
+      } else {
+        data = new byte[compressedLength];
+        buf.getBytes(buf.readerIndex(), data);
+        offset = 0;
+      }
+      buf.skipBytes(compressedLength);
+
+      // inflate directly into a pooled heap buffer
+      ByteBuf uncompressed = ctx.alloc().heapBuffer(uncompressedLength, uncompressedLength);
+      inflater.reset();
+      inflater.setInput(data, offset, compressedLength);
+      try {
+        int len =
+            inflater.inflate(
+                uncompressed.array(),
+                uncompressed.arrayOffset() + uncompressed.writerIndex(),
+                uncompressedLength);
+        if (len != uncompressedLength) {
+          throw new DecoderException(
+              String.format(
+                  "Wrong compressed packet: expected %s uncompressed bytes, but got %s",
+                  uncompressedLength, len));
+        }
+      } catch (DataFormatException | DecoderException e) {
+        uncompressed.release();
+        throw e instanceof DecoderException
+            ? (DecoderException) e
+            : new DecoderException("Wrong compressed packet", e);
+      }
+      uncompressed.writerIndex(uncompressedLength);
+      out.add(uncompressed);
+    }
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+    try {
+      super.handlerRemoved(ctx);
+    } finally {
+      deflater.end();
+      inflater.end();
+    }
+  }
+}
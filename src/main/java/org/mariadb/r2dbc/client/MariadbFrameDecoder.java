@@ -16,52 +16,87 @@
 package org.mariadb.r2dbc.client;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.CompositeByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import java.util.List;
 
 public class MariadbFrameDecoder extends ByteToMessageDecoder {
-  private CompositeByteBuf multipart = null;
+  private static final int MAX_PACKET_LENGTH = 0xffffff;
+
+  // multipart packet reassembly buffer, first byte being the sequence of the last packet
+  private ByteBuf multipart = null;
+  private int fragmentRemaining = 0;
+  private boolean lastFragment = false;
 
   @Override
   public void decode(ChannelHandlerContext ctx, ByteBuf buf, List<Object> out) throws Exception {
-    while (buf.readableBytes() > 4) {
-      int length = buf.getUnsignedMediumLE(buf.readerIndex());
-
-      // packet not complete
-      if (buf.readableBytes() < length + 4) return;
-
-      // extract packet
-      if (length == 0xffffff) {
-        // multipart packet
-        if (multipart == null) {
-          multipart = buf.alloc().compositeBuffer();
+    while (true) {
+      if (fragmentRemaining > 0) {
+        // copy fragment data as soon as available, without waiting for the complete fragment
+        int length = Math.min(fragmentRemaining, buf.readableBytes());
+        multipart.writeBytes(buf, length);
+        fragmentRemaining -= length;
+        if (fragmentRemaining > 0) return;
+        if (lastFragment) {
+          out.add(multipart);
+          multipart = null;
         }
-        buf.skipBytes(4); // skip length + header
-        multipart.addComponent(true, buf.readRetainedSlice(length));
         continue;
       }
 
-      // wait for complete packet
+      if (buf.readableBytes() < 4) return;
+      int length = buf.getUnsignedMediumLE(buf.readerIndex());
+
       if (multipart != null) {
-        // last part of multipart packet
+        // next part of multipart packet
         buf.skipBytes(3); // skip length
+        multipart.setByte(0, buf.readByte());
+        lastFragment = length < MAX_PACKET_LENGTH;
+        if (length == 0) {
+          out.add(multipart);
+          multipart = null;
+          continue;
+        }
+        ensureMultipartCapacity(length);
+        fragmentRemaining = length;
+        continue;
+      }
 
-        // add sequence byte
-        multipart.addComponent(true, 0, Unpooled.wrappedBuffer(new byte[] {buf.readByte()}));
-        // add data
-        multipart.addComponent(true, buf.readRetainedSlice(length));
-        out.add(multipart);
-        multipart = null;
+      if (length == MAX_PACKET_LENGTH) {
+        // first part of multipart packet: reassemble in one contiguous buffer
+        multipart = ctx.alloc().buffer(1 + MAX_PACKET_LENGTH);
+        buf.skipBytes(3); // skip length
+        multipart.writeByte(buf.readByte());
+        lastFragment = false;
+        fragmentRemaining = length;
         continue;
       }
 
+      // packet not complete
+      if (buf.readableBytes() < length + 4) return;
+
       // create Object from packet
       ByteBuf packet = buf.readRetainedSlice(4 + length);
       packet.skipBytes(3); // skip length
       out.add(packet);
     }
   }
+
+  private void ensureMultipartCapacity(int length) {
+    int required = multipart.writerIndex() + length;
+    if (required > multipart.capacity()) {
+      // grow geometrically, to avoid copying data each time a new part is received. Size is
+      // known when receiving last part, so no more than needed is allocated.
+      long newCapacity = lastFragment ? required : Math.max(required, 2L * multipart.capacity());
+      multipart.capacity((int) Math.min(newCapacity, multipart.maxCapacity()));
+    }
+  }
+
+  @Override
+  protected void handlerRemoved0(ChannelHandlerContext ctx) throws Exception {
+    if (multipart != null) {
+      multipart.release();
+      multipart = null;
+    }
+  }
 }
@@ -13,13 +13,24 @@ import org.mariadb.r2dbc.message.Context;
 public class MariadbPacketEncoder {
   private Context context = null;
 
-  public CompositeByteBuf encodeFlux(ClientMessage msg) {
+  public ByteBuf encodeFlux(ClientMessage msg) {
     ByteBufAllocator allocator = context.getByteBufAllocator();
-    CompositeByteBuf out = allocator.compositeBuffer();
-
     ByteBuf buf = msg.encode(context, allocator);
     int initialReaderIndex = buf.readerIndex();
-    int packetLength;
+    int packetLength = buf.readableBytes() - ClientMessage.HEADER_SIZE;
+
+    if (packetLength < 0xffffff) {
+      // single packet: header is written in reserved headroom
+      buf.setMediumLE(initialReaderIndex, packetLength);
+      buf.setByte(initialReaderIndex + 3, msg.getSequencer().next());
+      context.saveRedo(msg, buf, initialReaderIndex);
+      msg.releaseEncodedBinds();
+      return buf;
+    }
+
+    // packet bigger than 16M must be split
+    CompositeByteBuf out = allocator.compositeBuffer();
+    buf.skipBytes(ClientMessage.HEADER_SIZE);
     do {
       packetLength = Math.min(0xffffff, buf.readableBytes());
 
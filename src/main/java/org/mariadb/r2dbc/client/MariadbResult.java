@@ -138,7 +138,36 @@ public final class MariadbResult implements org.mariadb.r2dbc.api.MariadbResult
   }
 
   @Override
-  public Result filter(Predicate<Segment> filter) {
+  public <T> Flux<T> mapChunks(
+      int rowsPerChunk,
+      Function<? super org.mariadb.r2dbc.api.MariadbRowChunk, ? extends T> mappingFunction) {
+    Assert.requireNonNull(mappingFunction, "mappingFunction must not be null");
+    if (rowsPerChunk <= 0) throw new IllegalArgumentException("rowsPerChunk must be positive");
+    return this.dataRows
+        .takeUntil(ServerMessage::resultSetEnd)
+        .handle(this.chunkHandler(rowsPerChunk))
+        .filter(
+            it ->
+                it instanceof MariadbRowChunk
+                    || (it instanceof MariadbRowSegment && (filter == null || filter.test(it))))
+        .map(
+            it -> {
+              try {
+                if (it instanceof MariadbRowChunk) {
+                  return mappingFunction.apply((MariadbRowChunk) it);
+                }
+                // generated id row
+                MariadbRowChunk chunk = new MariadbRowChunk((MariadbRowSegment) it, 1);
+                chunk.addRow();
+                return mappingFunction.apply(chunk.complete());
+              } catch (IllegalArgumentException i) {
+                throw this.factory.createException(i.getMessage(), "HY000", -1);
+              }
+            });
+  }
+
+  @Override
+  public MariadbResult filter(Predicate<Segment> filter) {
     this.filter = filter;
     return this;
   }
@@ -245,6 +274,53 @@ public final class MariadbResult implements org.mariadb.r2dbc.api.MariadbResult
     };
   }
 
+  /**
+   * Handler accumulating rows into chunks, emitting a chunk once full or when result-set ends. Rows
+   * not matching {@link #filter(Predicate)} are not added. Other messages are handled like {@link
+   * #handler(boolean)}.
+   *
+   * @param rowsPerChunk maximum number of rows per chunk
+   * @return handler
+   */
+  private BiConsumer<? super ServerMessage, SynchronousSink<Segment>> chunkHandler(
+      int rowsPerChunk) {
+    final BiConsumer<? super ServerMessage, SynchronousSink<Segment>> segmentHandler =
+        this.handler(true);
+    final AtomicReference<MariadbRowChunk> chunk = new AtomicReference<>();
+    return (serverMessage, sink) -> {
+      if (serverMessage instanceof RowPacket && segment instanceof MariadbRowSegment) {
+        RowPacket row = ((RowPacket) serverMessage);
+        try {
+          segment.updateRaw(row.getRaw());
+          if (filter != null && !filter.test(segment)) return;
+          if (chunk.get() == null) {
+            chunk.set(new MariadbRowChunk((MariadbRowSegment) segment, rowsPerChunk));
+          }
+          chunk.get().addRow();
+          if (chunk.get().isFull()) sink.next(chunk.getAndSet(null).complete());
+        } catch (IllegalArgumentException i) {
+          sink.error(this.factory.createException(i.getMessage(), "HY000", -1));
+        } catch (R2dbcException i) {
+          sink.error(i);
+        } finally {
+          row.release();
+        }
+        return;
+      }
+
+      // rows are always followed by result-set end
+      MariadbRowChunk remaining = chunk.getAndSet(null);
+      if (remaining != null) {
+        sink.next(remaining.complete());
+        if (serverMessage instanceof ErrorPacket) {
+          sink.error(this.factory.from((ErrorPacket) serverMessage));
+        }
+        return;
+      }
+      segmentHandler.accept(serverMessage, sink);
+    };
+  }
+
   private ByteBuf getLongTextEncoded(long value) {
     byte[] byteValue = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
     byte[] encodedLength;
@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.client;
+
+import org.mariadb.r2dbc.ReceiveWindowMode;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Compute the number of server packets to request at once from socket, according to {@link
+ * ReceiveWindowMode}. Window is limited so that requested packets fit in the maximum buffered
+ * size, given the largest packet received. Not thread-safe: must only be used in channel event
+ * loop.
+ */
+public final class ReceiveWindow {
+
+  public static final int MIN_PACKETS = 16;
+  public static final int MAX_PACKETS = 65536;
+  private static final int INITIAL_PACKET_SIZE = 256;
+
+  private final ReceiveWindowMode mode;
+  private final int size;
+  private final long maxBufferedBytes;
+  private int avgPacketSize = INITIAL_PACKET_SIZE;
+  private int maxPacketSize = INITIAL_PACKET_SIZE;
+  private int window = Queues.SMALL_BUFFER_SIZE;
+  private boolean buffered = false;
+
+  public ReceiveWindow(ReceiveWindowMode mode, int size) {
+    this(mode, size, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param mode window mode
+   * @param size number of packets or bytes, according to mode
+   * @param maxBufferedBytes maximum size of packets waiting for a slow consumer
+   */
+  public ReceiveWindow(ReceiveWindowMode mode, int size, long maxBufferedBytes) {
+    this.mode = mode;
+    this.size = size;
+    this.maxBufferedBytes = maxBufferedBytes;
+  }
+
+  /**
+   * Register a received packet size.
+   *
+   * @param length packet length
+   */
+  public void onPacket(int length) {
+    // exponential moving average, each new packet weighting 1/8
+    avgPacketSize += (length - avgPacketSize) >> 3;
+    if (length > maxPacketSize) maxPacketSize = length;
+  }
+
+  /** Indicate that a packet had to be buffered, consumer not keeping up with network. */
+  public void onBuffered() {
+    buffered = true;
+  }
+
+  /**
+   * Number of packets to request. Called once previous window has been entirely consumed.
+   *
+   * @return number of packets
+   */
+  public int next() {
+    return (int) Math.min(modeWindow(), Math.max(1, maxBufferedBytes / maxPacketSize));
+  }
+
+  private int modeWindow() {
+    switch (mode) {
+      case PACKETS:
+        return size;
+
+      case BYTES:
+        return byteLimit();
+
+      default:
+        // grow window while consumer drains packets as fast as they are received, shrink it
+        // when packets have to be buffered
+        int limit = byteLimit();
+        window = buffered ? window >> 1 : window << 1;
+        window = Math.max(Math.min(MIN_PACKETS, limit), Math.min(window, limit));
+        buffered = false;
+        return window;
+    }
+  }
+
+  private int byteLimit() {
+    return (int) Math.max(1, Math.min(MAX_PACKETS, size / Math.max(1, avgPacketSize)));
+  }
+
+  @Override
+  public String toString() {
+    return "ReceiveWindow{mode="
+        + mode
+        + ", size="
+        + size
+        + ", maxBufferedBytes="
+        + maxBufferedBytes
+        + ", avgPacketSize="
+        + avgPacketSize
+        + ", maxPacketSize="
+        + maxPacketSize
+        + ", window="
+        + window
+        + '}';
+  }
+}
@@ -4,6 +4,8 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.r2dbc.spi.IsolationLevel;
 import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.client.BulkExecutePacket;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
 import org.mariadb.r2dbc.util.constants.ServerStatus;
 
 public class RedoContext extends SimpleContext {
@@ -49,6 +51,11 @@ public class RedoContext extends SimpleContext {
    * @param msg client message
    */
   public void saveRedo(ClientMessage msg, ByteBuf buf, int initialReaderIndex) {
+    if (msg instanceof LongDataPacket || msg instanceof BulkExecutePacket) {
+      // streamed parameters and bulk commands cannot be replayed
+      transactionSaver.forceDirty();
+      return;
+    }
     msg.save(buf, initialReaderIndex);
     transactionSaver.add(msg);
   }
@@ -5,6 +5,7 @@ import java.util.Queue;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.ServerMessage;
+import org.mariadb.r2dbc.message.client.PreparePacket;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.message.server.PrepareResultPacket;
 import org.mariadb.r2dbc.message.server.Sequencer;
@@ -16,7 +17,7 @@ public class ServerMsgDecoder {
   private final Client client;
   private final MariadbConnectionConfiguration configuration;
   private DecoderState state = null;
-  private final Queue<String> prepareSql = Queues.<String>small().get();
+  private final Queue<PreparePacket> preparePackets = Queues.<PreparePacket>small().get();
   private long clientCapabilities;
   private int stateCounter = 0;
   private PrepareResultPacket prepare;
@@ -72,10 +73,10 @@ public class ServerMsgDecoder {
     ServerPrepareResult prepareResult =
         new ServerPrepareResult(
             this.prepare.getStatementId(), this.prepare.getNumParams(), prepareColumns);
-    String sql = prepareSql.poll();
+    PreparePacket preparePacket = preparePackets.poll();
     PrepareCache prepareCache = client.getPrepareCache();
-    if (prepareCache != null) {
-      ServerPrepareResult cached = prepareCache.put(sql, prepareResult);
+    if (prepareCache != null && preparePacket.isCacheable()) {
+      ServerPrepareResult cached = prepareCache.put(preparePacket.getSql(), prepareResult);
       if (cached != null) {
         // race condition, remove new one to get the one in cache
         prepareResult.decrementUse(client);
@@ -93,8 +94,8 @@ public class ServerMsgDecoder {
     return clientCapabilities;
   }
 
-  public boolean addPrepare(String sql) {
-    return this.prepareSql.offer(sql);
+  public boolean addPrepare(PreparePacket preparePacket) {
+    return this.preparePackets.offer(preparePacket);
   }
 
   public void setContext(Context context) {
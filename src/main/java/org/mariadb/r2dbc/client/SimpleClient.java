@@ -6,6 +6,8 @@ package org.mariadb.r2dbc.client;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -14,13 +16,13 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.r2dbc.spi.*;
 import java.net.SocketAddress;
+import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import org.mariadb.r2dbc.*;
@@ -31,11 +33,11 @@ import org.mariadb.r2dbc.message.client.*;
 import org.mariadb.r2dbc.message.server.CompletePrepareResult;
 import org.mariadb.r2dbc.message.server.ErrorPacket;
 import org.mariadb.r2dbc.message.server.InitialHandshakePacket;
+import org.mariadb.r2dbc.message.server.RowPacket;
 import org.mariadb.r2dbc.util.HostAddress;
 import org.mariadb.r2dbc.util.PrepareCache;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
 import org.mariadb.r2dbc.util.constants.ServerStatus;
-import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.*;
@@ -51,22 +53,29 @@ public class SimpleClient implements Client {
   private static final Logger logger = Loggers.getLogger(SimpleClient.class);
   protected final MariadbConnectionConfiguration configuration;
   private final ServerMessageSubscriber messageSubscriber;
-  private final Sinks.Many<Publisher<ClientMessage>> requestSink =
-      Sinks.many().unicast().onBackpressureBuffer();
-  private final Queue<Exchange> exchangeQueue =
-      Queues.<Exchange>get(Queues.SMALL_BUFFER_SIZE).get();
+  private final Queue<Runnable> commandQueue = Queues.<Runnable>unboundedMultiproducer().get();
+  private final AtomicInteger commandWip = new AtomicInteger();
+  private final Runnable commandDrainTask = this::drainCommands;
+  // exchanges and pending exchanges are only accessed in event loop
+  private final Queue<Exchange> exchangeQueue = new ArrayDeque<>();
+  private final Queue<PendingExchange> pendingExchanges = new ArrayDeque<>();
+  private final int maxPipelineDepth;
+  private final int maxPendingCommands;
+  private volatile int pendingCommandCount = 0;
+  // bounded by receive window: messages are requested only when queue is empty
   private final Queue<ServerMessage> receiverQueue =
-      Queues.<ServerMessage>get(Queues.SMALL_BUFFER_SIZE).get();
+      Queues.<ServerMessage>unbounded(Queues.SMALL_BUFFER_SIZE).get();
 
   private final AtomicBoolean isClosed = new AtomicBoolean(false);
+  private final ChannelFutureListener writeListener;
   private final ServerMsgDecoder decoder;
   private final MariadbPacketEncoder encoder;
   private final PrepareCache prepareCache;
   private final ByteBufAllocator byteBufAllocator;
 
   private volatile boolean closeRequested = false;
+  private boolean flushNeeded = false;
 
-  protected final ReentrantLock lock;
   protected final Connection connection;
   protected final HostAddress hostAddress;
   protected volatile Context context;
@@ -79,12 +88,12 @@ public class SimpleClient implements Client {
   protected SimpleClient(
       Connection connection,
       MariadbConnectionConfiguration configuration,
-      HostAddress hostAddress,
-      ReentrantLock lock) {
+      HostAddress hostAddress) {
     this.connection = connection;
     this.configuration = configuration;
     this.hostAddress = hostAddress;
-    this.lock = lock;
+    this.maxPipelineDepth = configuration.getMaxPipelineDepth();
+    this.maxPendingCommands = configuration.getMaxPendingCommands();
     this.prepareCache =
         new PrepareCache(
             this.configuration.useServerPrepStmts() ? this.configuration.getPrepareCacheSize() : 0,
@@ -93,8 +102,19 @@ public class SimpleClient implements Client {
     this.encoder = new MariadbPacketEncoder();
     this.byteBufAllocator = connection.outbound().alloc();
     this.messageSubscriber =
-        new ServerMessageSubscriber(this.lock, this.isClosed, exchangeQueue, receiverQueue);
+        new ServerMessageSubscriber(
+            this.isClosed,
+            exchangeQueue,
+            receiverQueue,
+            new ReceiveWindow(
+                configuration.getReceiveWindowMode(),
+                configuration.getReceiveWindowSize(),
+                configuration.getMaxBufferedBytes()));
     connection.addHandler(new MariadbFrameDecoder());
+    this.writeListener =
+        future -> {
+          if (!future.isSuccess()) handleConnectionError(future.cause());
+        };
 
     if (logger.isTraceEnabled()) {
       connection.addHandlerFirst(
@@ -108,25 +128,157 @@ public class SimpleClient implements Client {
         .doOnError(this::handleConnectionError)
         .doOnComplete(this::handleConnectionEnd)
         .subscribe(messageSubscriber);
+  }
+
+  /**
+   * Submit a command to be run in channel event loop.
+   *
+   * <p>Exchange registration and message writing are confined to event loop: caller threads only
+   * offer commands to a lock-free multi-producer queue, that is drained by a single task in event
+   * loop. This avoids any contention between callers and I/O thread.
+   *
+   * @param command command
+   */
+  private void submit(Runnable command) {
+    commandQueue.offer(command);
+    if (commandWip.getAndIncrement() == 0) {
+      connection.channel().eventLoop().execute(commandDrainTask);
+    }
+  }
+
+  private void drainCommands() {
+    int missed = 1;
+    do {
+      Runnable command;
+      while ((command = commandQueue.poll()) != null) {
+        try {
+          command.run();
+        } catch (Throwable t) {
+          logger.error("Unexpected error while executing command", t);
+        }
+      }
+      missed = commandWip.addAndGet(-missed);
+    } while (missed != 0);
+
+    // all commands ready are sent in one write
+    if (flushNeeded) {
+      flushNeeded = false;
+      connection.channel().flush();
+    }
+  }
+
+  /**
+   * Write message to socket without flushing. Flush is done once all submitted commands are
+   * written, in order to send all pipelined commands in one write. Must be called in event loop.
+   *
+   * @param message client message
+   */
+  private void write(ClientMessage message) {
+    connection.channel().write(encoder.encodeFlux(message)).addListener(writeListener);
+    flushNeeded = true;
+  }
 
-    Mono<Void> request =
-        this.requestSink
-            .asFlux()
-            .concatMap(Function.identity())
-            .cast(ClientMessage.class)
-            .map(encoder::encodeFlux)
-            .flatMap(b -> connection.outbound().send(Mono.just(b)), 1)
-            .then();
+  /**
+   * Send exchange if pipeline depth permits it, or queue it until in-flight exchanges complete.
+   * Must be called in event loop.
+   *
+   * @param exchange exchange
+   * @param messages messages to send
+   */
+  private void sendExchange(Exchange exchange, ClientMessage... messages) {
+    if (!isConnected()) {
+      exchange
+          .getSink()
+          .error(
+              new R2dbcNonTransientResourceException("Connection is close. Cannot send anything"));
+      return;
+    }
+    if (!this.pendingExchanges.isEmpty() || this.exchangeQueue.size() >= maxPipelineDepth) {
+      if (this.pendingExchanges.size() >= maxPendingCommands) {
+        exchange
+            .getSink()
+            .error(new R2dbcTransientResourceException("Pending command queue limit reached"));
+        return;
+      }
+      this.pendingExchanges.offer(new PendingExchange(exchange, messages));
+      this.pendingCommandCount = this.pendingExchanges.size();
+      return;
+    }
+    doSendExchange(exchange, messages);
+  }
 
-    request.doAfterTerminate(this::handleConnectionEnd).subscribe();
+  /**
+   * Register exchange then send messages. Must be called in event loop.
+   *
+   * @param exchange exchange
+   * @param messages messages to send
+   */
+  private void doSendExchange(Exchange exchange, ClientMessage... messages) {
+    FluxSink<ServerMessage> sink = exchange.getSink();
+    try {
+      this.exchangeQueue.offer(exchange);
+      if (messages[0] instanceof PreparePacket) {
+        decoder.addPrepare((PreparePacket) messages[0]);
+      }
+      sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
+      for (ClientMessage message : messages) {
+        write(message);
+      }
+    } catch (Throwable t) {
+      sink.error(t);
+    }
+  }
+
+  /** Send pending exchanges as long as pipeline depth permits it. Must be called in event loop. */
+  private void admitPendingExchanges() {
+    PendingExchange pending;
+    while (this.exchangeQueue.size() < maxPipelineDepth
+        && (pending = this.pendingExchanges.poll()) != null) {
+      this.pendingCommandCount = this.pendingExchanges.size();
+      if (!isConnected()) {
+        pending.fail(
+            new R2dbcNonTransientResourceException("Connection is close. Cannot send anything"));
+      } else if (pending.exchange == null) {
+        doSendWithoutResponse(pending.messages[0], pending.sink);
+      } else {
+        doSendExchange(pending.exchange, pending.messages);
+      }
+    }
+    if (flushNeeded) {
+      flushNeeded = false;
+      connection.channel().flush();
+    }
+  }
+
+  /**
+   * Number of commands waiting for in-flight exchanges to complete, pipeline depth being reached.
+   *
+   * @return pending command number
+   */
+  @Override
+  public int getPendingCommandCount() {
+    return pendingCommandCount;
+  }
+
+  /**
+   * Size of received rows waiting for a slow consumer.
+   *
+   * @return buffered bytes
+   */
+  @Override
+  public long getBufferedBytes() {
+    return messageSubscriber.getBufferedBytes();
+  }
+
+  private boolean hasExchanges() {
+    return !this.exchangeQueue.isEmpty() || !this.pendingExchanges.isEmpty();
   }
 
   public static Mono<SimpleClient> connect(
       ConnectionProvider connectionProvider,
       SocketAddress socketAddress,
       HostAddress hostAddress,
-      MariadbConnectionConfiguration configuration,
-      ReentrantLock lock) {
+      MariadbConnectionConfiguration configuration) {
     TcpClient tcpClient =
         TcpClient.create(connectionProvider)
             .remoteAddress(() -> socketAddress)
@@ -134,7 +286,7 @@ public class SimpleClient implements Client {
     tcpClient = setSocketOption(configuration, tcpClient);
     return tcpClient
         .connect()
-        .flatMap(it -> Mono.just(new SimpleClient(it, configuration, hostAddress, lock)));
+        .flatMap(it -> Mono.just(new SimpleClient(it, configuration, hostAddress)));
   }
 
   public static TcpClient setSocketOption(
@@ -156,10 +308,6 @@ public class SimpleClient implements Client {
     return tcpClient;
   }
 
-  private void sendClientMsgs(Publisher<ClientMessage> it) {
-    this.requestSink.emitNext(it, Sinks.EmitFailureHandler.FAIL_FAST);
-  }
-
   private void handleConnectionError(Throwable throwable) {
     if (closeChannelIfNeeded()) {
       logger.error("Connection unexpected error", throwable);
@@ -233,11 +381,12 @@ public class SimpleClient implements Client {
                   engine);
 
       sslHandler.handshakeFuture().addListener(listener);
-      // send SSL request in clear
-      this.sendClientMsgs(Mono.just(sslRequest));
-
-      // add SSL handler
-      connection.addHandlerFirst(sslHandler);
+      submit(
+          () -> {
+            // send SSL request in clear, then add SSL handler
+            write(sslRequest);
+            connection.addHandlerFirst(sslHandler);
+          });
       return Mono.fromFuture(result);
 
     } catch (SSLException | R2dbcTransientResourceException e) {
@@ -246,6 +395,21 @@ public class SimpleClient implements Client {
     }
   }
 
+  /**
+   * Activate compressed protocol. Must be called when authentication has succeeded, since
+   * compression only applies to exchanges following authentication.
+   */
+  public void enableCompression() {
+    // compression must be placed after SSL handler (if any) and before packet decoder
+    connection
+        .channel()
+        .pipeline()
+        .addBefore(
+            MariadbFrameDecoder.class.getSimpleName(),
+            MariadbCompressionCodec.class.getSimpleName(),
+            new MariadbCompressionCodec());
+  }
+
   private Flux<ServerMessage> execute(Consumer<FluxSink<ServerMessage>> s) {
     return Flux.create(
         sink -> {
@@ -255,12 +419,7 @@ public class SimpleClient implements Client {
                     "Connection is close. Cannot send anything"));
             return;
           }
-          try {
-            lock.lock();
-            s.accept(sink);
-          } finally {
-            lock.unlock();
-          }
+          submit(() -> s.accept(sink));
         });
   }
 
@@ -274,31 +433,20 @@ public class SimpleClient implements Client {
    * @return publisher
    */
   public Mono<Void> beginTransaction() {
-    try {
-      lock.lock();
-
-      return execute(
-              sink -> {
-                if (!exchangeQueue.isEmpty()
-                    || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
-                  Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, "BEGIN");
-                  if (this.exchangeQueue.offer(exchange)) {
-                    sendClientMsgs(Mono.just(new QueryPacket("BEGIN")));
-                    sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-                  } else {
-                    sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
-                  }
-                } else {
-                  logger.debug("Skipping start transaction because already in transaction");
-                  sink.complete();
-                }
-              })
-          .handle(ExceptionFactory.withSql("BEGIN")::handleErrorResponse)
-          .then();
-
-    } finally {
-      lock.unlock();
-    }
+    return execute(
+            sink -> {
+              if (hasExchanges()
+                  || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
+                sendExchange(
+                    new Exchange(sink, DecoderState.QUERY_RESPONSE, "BEGIN"),
+                    new QueryPacket("BEGIN"));
+              } else {
+                logger.debug("Skipping start transaction because already in transaction");
+                sink.complete();
+              }
+            })
+        .handle(ExceptionFactory.withSql("BEGIN")::handleErrorResponse)
+        .then();
   }
 
   /**
@@ -321,29 +469,19 @@ public class SimpleClient implements Client {
     }
 
     String sql = sb.toString();
-    try {
-      lock.lock();
-      return execute(
-              sink -> {
-                if (!exchangeQueue.isEmpty()
-                    || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
-                  Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
-                  if (this.exchangeQueue.offer(exchange)) {
-                    sendClientMsgs(Mono.just(new QueryPacket(sql)));
-                    sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-                  } else {
-                    sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
-                  }
-                } else {
-                  logger.debug("Skipping start transaction because already in transaction");
-                  sink.complete();
-                }
-              })
-          .handle(ExceptionFactory.withSql(sql)::handleErrorResponse)
-          .then();
-    } finally {
-      lock.unlock();
-    }
+    return execute(
+            sink -> {
+              if (hasExchanges()
+                  || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) == 0) {
+                sendExchange(
+                    new Exchange(sink, DecoderState.QUERY_RESPONSE, sql), new QueryPacket(sql));
+              } else {
+                logger.debug("Skipping start transaction because already in transaction");
+                sink.complete();
+              }
+            })
+        .handle(ExceptionFactory.withSql(sql)::handleErrorResponse)
+        .then();
   }
 
   /**
@@ -352,33 +490,14 @@ public class SimpleClient implements Client {
    * @return publisher
    */
   public Mono<Void> commitTransaction() {
-    try {
-      lock.lock();
-      return execute(sink -> executeWhenTransaction(sink, "COMMIT"))
-          .handle(ExceptionFactory.withSql("COMMIT")::handleErrorResponse)
-          .then();
-    } finally {
-      lock.unlock();
-    }
+    return execute(sink -> executeWhenTransaction(sink, "COMMIT"))
+        .handle(ExceptionFactory.withSql("COMMIT")::handleErrorResponse)
+        .then();
   }
 
   private void executeWhenTransaction(FluxSink<ServerMessage> sink, String sql) {
-    if (!exchangeQueue.isEmpty() || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
-      try {
-        lock.lock();
-        Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
-        if (this.exchangeQueue.offer(exchange)) {
-          sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-          sendClientMsgs(Mono.just(new QueryPacket(sql)));
-        } else {
-          sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
-        }
-      } catch (Throwable t) {
-        t.printStackTrace();
-        throw t;
-      } finally {
-        lock.unlock();
-      }
+    if (hasExchanges() || (context.getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
+      sendExchange(new Exchange(sink, DecoderState.QUERY_RESPONSE, sql), new QueryPacket(sql));
     } else {
       logger.debug(String.format("Skipping '%s' because no active transaction", sql));
       sink.complete();
@@ -391,14 +510,9 @@ public class SimpleClient implements Client {
    * @return publisher
    */
   public Mono<Void> rollbackTransaction() {
-    try {
-      lock.lock();
-      return execute(sink -> executeWhenTransaction(sink, "ROLLBACK"))
-          .handle(ExceptionFactory.withSql("ROLLBACK")::handleErrorResponse)
-          .then();
-    } finally {
-      lock.unlock();
-    }
+    return execute(sink -> executeWhenTransaction(sink, "ROLLBACK"))
+        .handle(ExceptionFactory.withSql("ROLLBACK")::handleErrorResponse)
+        .then();
   }
 
   /**
@@ -407,15 +521,10 @@ public class SimpleClient implements Client {
    * @return publisher
    */
   public Mono<Void> rollbackTransactionToSavepoint(String name) {
-    try {
-      lock.lock();
-      String sql = String.format("ROLLBACK TO SAVEPOINT `%s`", name.replace("`", "``"));
-      return execute(sink -> executeWhenTransaction(sink, sql))
-          .handle(ExceptionFactory.withSql(sql)::handleErrorResponse)
-          .then();
-    } finally {
-      lock.unlock();
-    }
+    String sql = String.format("ROLLBACK TO SAVEPOINT `%s`", name.replace("`", "``"));
+    return execute(sink -> executeWhenTransaction(sink, sql))
+        .handle(ExceptionFactory.withSql(sql)::handleErrorResponse)
+        .then();
   }
 
   /**
@@ -424,58 +533,30 @@ public class SimpleClient implements Client {
    * @return publisher
    */
   public Mono<Void> setAutoCommit(boolean autoCommit) {
-    try {
-      lock.lock();
-      return execute(
-              sink -> {
-                String sql = "SET autocommit=" + (autoCommit ? '1' : '0');
-                if (!this.exchangeQueue.isEmpty() || autoCommit != isAutoCommit()) {
-
-                  try {
-                    Exchange exchange = new Exchange(sink, DecoderState.QUERY_RESPONSE, sql);
-                    if (this.exchangeQueue.offer(exchange)) {
-                      sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-                      sendClientMsgs(Mono.just(new QueryPacket(sql)));
-                    } else {
-                      sink.error(
-                          new R2dbcTransientResourceException("Request queue limit reached"));
-                    }
-                  } catch (Throwable t) {
-                    t.printStackTrace();
-                    throw t;
-                  }
-
-                } else {
-                  logger.debug("Skipping autocommit since already in that state");
-                  sink.complete();
-                }
-              })
-          .handle(ExceptionFactory.withSql(null)::handleErrorResponse)
-          .then();
-    } finally {
-      lock.unlock();
-    }
+    return execute(
+            sink -> {
+              String sql = "SET autocommit=" + (autoCommit ? '1' : '0');
+              if (hasExchanges() || autoCommit != isAutoCommit()) {
+                sendExchange(
+                    new Exchange(sink, DecoderState.QUERY_RESPONSE, sql), new QueryPacket(sql));
+              } else {
+                logger.debug("Skipping autocommit since already in that state");
+                sink.complete();
+              }
+            })
+        .handle(ExceptionFactory.withSql(null)::handleErrorResponse)
+        .then();
   }
 
   public Flux<ServerMessage> receive(DecoderState initialState) {
     return Flux.create(
-        sink -> {
-          try {
-            lock.lock();
-            Exchange exchange = new Exchange(sink, initialState);
-            sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-            if (!this.exchangeQueue.offer(exchange)) {
-              sink.error(
-                  new R2dbcTransientResourceException(
-                      "Request queue limit reached during handshake"));
-            }
-          } catch (Throwable t) {
-            t.printStackTrace();
-            throw t;
-          } finally {
-            lock.unlock();
-          }
-        });
+        sink ->
+            submit(
+                () -> {
+                  Exchange exchange = new Exchange(sink, initialState);
+                  sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
+                  this.exchangeQueue.offer(exchange);
+                }));
   }
 
   public void setContext(InitialHandshakePacket handshake, long clientCapabilities) {
@@ -547,19 +628,22 @@ public class SimpleClient implements Client {
     private Subscription upstream;
     private AtomicBoolean close;
     private final AtomicLong receiverDemands = new AtomicLong(0);
-    private final ReentrantLock lock;
     private final Queue<Exchange> exchangeQueue;
     private final Queue<ServerMessage> receiverQueue;
+    private final ReceiveWindow receiveWindow;
+    private final Runnable drainTask = this::drain;
+    private boolean draining = false;
+    private volatile long bufferedBytes = 0;
 
     public ServerMessageSubscriber(
-        ReentrantLock lock,
         AtomicBoolean close,
         Queue<Exchange> exchangeQueue,
-        Queue<ServerMessage> receiverQueue) {
-      this.lock = lock;
+        Queue<ServerMessage> receiverQueue,
+        ReceiveWindow receiveWindow) {
       this.close = close;
       this.receiverQueue = receiverQueue;
       this.exchangeQueue = exchangeQueue;
+      this.receiveWindow = receiveWindow;
     }
 
     @Override
@@ -580,77 +664,173 @@ public class SimpleClient implements Client {
       }
 
       this.receiverDemands.decrementAndGet();
+      this.receiveWindow.onPacket(message.readableBytes());
       Exchange exchange = this.exchangeQueue.peek();
       ServerMessage srvMsg = decoder.decode(message, exchange);
 
       if (this.receiverQueue.isEmpty() && exchange != null && exchange.hasDemand()) {
         // nothing buffered => directly emit message
-        if (srvMsg.ending()) this.exchangeQueue.poll();
+        if (srvMsg.ending()) {
+          this.exchangeQueue.poll();
+          exchange.emit(srvMsg);
+          admitPendingExchanges();
+          return;
+        }
         exchange.emit(srvMsg);
         return;
       }
 
       // queue message
-      if (!this.receiverQueue.offer(srvMsg)) {
-        message.release();
-        Operators.onNextDropped(message, currentContext());
-        onError(
-            new R2dbcNonTransientResourceException("unexpected : server message queue is full"));
-        return;
-      }
+      this.receiveWindow.onBuffered();
+      this.receiverQueue.offer(srvMsg);
+      this.bufferedBytes += bufferedSize(srvMsg);
 
       tryDrainQueue();
     }
 
     public void onRequest(Exchange exchange, long n) {
       exchange.incrementDemand(n);
+      if (connection.channel().eventLoop().inEventLoop()) {
+        drain();
+      } else {
+        submit(drainTask);
+      }
+    }
+
+    private void drain() {
       requestQueueFilling();
       tryDrainQueue();
     }
 
+    /**
+     * Request packets from socket once previous ones have been consumed. Packets are not read ahead
+     * of consumer: no more packets are requested than current exchange demand, so a slow consumer
+     * slows down socket reading, and TCP flow control the server. Packets of following exchanges
+     * can still be read in advance, bounded by receive window.
+     */
     private void requestQueueFilling() {
-      if (this.receiverQueue.isEmpty()
-          && this.receiverDemands.compareAndSet(0, Queues.SMALL_BUFFER_SIZE)) {
-        this.upstream.request(Queues.SMALL_BUFFER_SIZE);
+      if (this.receiverQueue.isEmpty() && this.receiverDemands.get() == 0) {
+        int window = this.receiveWindow.next();
+        Exchange exchange = this.exchangeQueue.peek();
+        if (exchange != null) {
+          window = (int) Math.max(1, Math.min(window, exchange.getDemand()));
+        }
+        this.receiverDemands.set(window);
+        this.upstream.request(window);
       }
     }
 
+    /** Emit queued messages. Always called in event loop, emitting may lead to re-entrant calls. */
     private void tryDrainQueue() {
+      if (draining) return;
       Exchange exchange;
       ServerMessage srvMsg;
-      while (!this.receiverQueue.isEmpty()) {
-        if (!lock.tryLock()) return;
-        try {
-          while (!this.receiverQueue.isEmpty()) {
-            if ((exchange = this.exchangeQueue.peek()) == null || !exchange.hasDemand()) return;
-            if ((srvMsg = this.receiverQueue.poll()) == null) return;
-            if (srvMsg.ending()) this.exchangeQueue.poll();
+      draining = true;
+      try {
+        while ((srvMsg = this.receiverQueue.peek()) != null) {
+          if ((exchange = this.exchangeQueue.peek()) == null || !exchange.hasDemand()) return;
+          this.receiverQueue.poll();
+          this.bufferedBytes -= bufferedSize(srvMsg);
+          if (srvMsg.ending()) {
+            this.exchangeQueue.poll();
+            exchange.emit(srvMsg);
+            admitPendingExchanges();
+          } else {
             exchange.emit(srvMsg);
           }
-        } finally {
-          lock.unlock();
         }
+      } finally {
+        draining = false;
+      }
 
-        if ((exchange = this.exchangeQueue.peek()) == null || exchange.hasDemand()) {
-          requestQueueFilling();
-        }
+      if ((exchange = this.exchangeQueue.peek()) == null || exchange.hasDemand()) {
+        requestQueueFilling();
       }
     }
 
+    /**
+     * Size of received rows waiting for consumer.
+     *
+     * @return buffered bytes
+     */
+    public long getBufferedBytes() {
+      return bufferedBytes;
+    }
+
+    private int bufferedSize(ServerMessage srvMsg) {
+      // only rows can represent significant amount of memory
+      return srvMsg instanceof RowPacket ? ((RowPacket) srvMsg).getRaw().readableBytes() : 0;
+    }
+
     public void endExchanges(Throwable exception) {
+      if (!connection.channel().eventLoop().inEventLoop()) {
+        submit(() -> endExchanges(exception));
+        return;
+      }
       Exchange exchange;
       while ((exchange = this.exchangeQueue.poll()) != null) {
         exchange.getSink().error(exception);
       }
+      PendingExchange pending;
+      while ((pending = pendingExchanges.poll()) != null) {
+        pending.fail(exception);
+      }
+      pendingCommandCount = 0;
     }
   }
 
   public void sendCommandWithoutResult(ClientMessage message) {
+    submit(() -> sendWithoutResponse(message, null));
+  }
+
+  public Mono<Void> sendLongData(LongDataPacket packet) {
+    return Mono.create(sink -> submit(() -> sendWithoutResponse(packet, sink)));
+  }
+
+  /**
+   * Send a message server doesn't respond to. When commands are pending, message is queued behind
+   * them, in order not to be written before commands submitted earlier. Must be called in event
+   * loop.
+   *
+   * @param message message
+   * @param sink sink notified when message has been written, may be null
+   */
+  private void sendWithoutResponse(ClientMessage message, MonoSink<Void> sink) {
+    if (!isConnected()) {
+      message.releaseEncodedBinds();
+      if (sink != null) {
+        sink.error(
+            new R2dbcNonTransientResourceException("Connection is close. Cannot send anything"));
+      }
+      return;
+    }
+    if (!this.pendingExchanges.isEmpty()) {
+      this.pendingExchanges.offer(new PendingExchange(message, sink));
+      this.pendingCommandCount = this.pendingExchanges.size();
+      return;
+    }
+    doSendWithoutResponse(message, sink);
+  }
+
+  private void doSendWithoutResponse(ClientMessage message, MonoSink<Void> sink) {
     try {
-      lock.lock();
-      sendClientMsgs(Mono.just(message));
-    } finally {
-      lock.unlock();
+      ChannelFuture future = connection.channel().write(encoder.encodeFlux(message));
+      flushNeeded = true;
+      if (sink == null) {
+        future.addListener(writeListener);
+        return;
+      }
+      future.addListener(
+          f -> {
+            if (f.isSuccess()) {
+              sink.success();
+            } else {
+              handleConnectionError(f.cause());
+              sink.error(f.cause());
+            }
+          });
+    } catch (Throwable t) {
+      if (sink != null) sink.error(t);
     }
   }
 
@@ -673,23 +853,8 @@ public class SimpleClient implements Client {
                     "Connection is close. Cannot send anything"));
             return;
           }
-          try {
-            lock.lock();
-            Exchange exchange = new Exchange(sink, initialState, sql);
-            if (this.exchangeQueue.offer(exchange)) {
-              if (message instanceof PreparePacket) {
-                decoder.addPrepare(((PreparePacket) message).getSql());
-              }
-              sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-              sendClientMsgs(Mono.just(message));
-            } else {
-              sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
-            }
-          } catch (Throwable t) {
-            sink.error(t);
-          } finally {
-            lock.unlock();
-          }
+          Exchange exchange = new Exchange(sink, initialState, sql);
+          submit(() -> sendExchange(exchange, message));
         });
   }
 
@@ -723,25 +888,9 @@ public class SimpleClient implements Client {
                     "Connection is close. Cannot send anything"));
             return;
           }
-          try {
-            lock.lock();
-            Exchange exchange =
-                new Exchange(
-                    sink, DecoderState.PREPARE_AND_EXECUTE_RESPONSE, preparePacket.getSql());
-            if (this.exchangeQueue.offer(exchange)) {
-              sink.onRequest(value -> messageSubscriber.onRequest(exchange, value));
-              decoder.addPrepare(preparePacket.getSql());
-              sendClientMsgs(Flux.just(preparePacket, executePacket));
-            } else {
-              sink.error(new R2dbcTransientResourceException("Request queue limit reached"));
-              return;
-            }
-          } catch (Throwable t) {
-            t.printStackTrace();
-            sink.error(t);
-          } finally {
-            lock.unlock();
-          }
+          Exchange exchange =
+              new Exchange(sink, DecoderState.PREPARE_AND_EXECUTE_RESPONSE, preparePacket.getSql());
+          submit(() -> sendExchange(exchange, preparePacket, executePacket));
         });
   }
 
@@ -757,4 +906,32 @@ public class SimpleClient implements Client {
   public String toString() {
     return "Client{isClosed=" + isClosed + ", context=" + context + '}';
   }
+
+  private static final class PendingExchange {
+    private final Exchange exchange;
+    private final ClientMessage[] messages;
+    // write notification of message without response
+    private final MonoSink<Void> sink;
+
+    private PendingExchange(Exchange exchange, ClientMessage[] messages) {
+      this.exchange = exchange;
+      this.messages = messages;
+      this.sink = null;
+    }
+
+    private PendingExchange(ClientMessage message, MonoSink<Void> sink) {
+      this.exchange = null;
+      this.messages = new ClientMessage[] {message};
+      this.sink = sink;
+    }
+
+    private void fail(Throwable exception) {
+      if (exchange != null) {
+        exchange.getSink().error(exception);
+        return;
+      }
+      messages[0].releaseEncodedBinds();
+      if (sink != null) sink.error(exception);
+    }
+  }
 }
@@ -17,6 +17,7 @@ public class SimpleContext implements Context {
   private final ByteBufAllocator byteBufAllocator;
   private IsolationLevel isolationLevel;
   private String database;
+  private volatile int maxAllowedPacket;
 
   public SimpleContext(
       String serverVersion,
@@ -79,6 +80,14 @@ public class SimpleContext implements Context {
     return version;
   }
 
+  public int getMaxAllowedPacket() {
+    return maxAllowedPacket;
+  }
+
+  public void setMaxAllowedPacket(int maxAllowedPacket) {
+    this.maxAllowedPacket = maxAllowedPacket;
+  }
+
   public ByteBufAllocator getByteBufAllocator() {
     return byteBufAllocator;
   }
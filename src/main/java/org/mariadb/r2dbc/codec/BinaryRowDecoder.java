@@ -7,6 +7,10 @@ import io.netty.buffer.ByteBuf;
 import java.util.List;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.codec.list.BooleanCodec;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 
 public class BinaryRowDecoder extends RowDecoder {
@@ -19,7 +23,7 @@ public class BinaryRowDecoder extends RowDecoder {
       List<ColumnDefinitionPacket> columns,
       MariadbConnectionConfiguration conf,
       ExceptionFactory factory) {
-    super(conf, factory);
+    super(columns.size(), conf, factory);
     this.columns = columns;
     this.columnNumber = columns.size();
     nullBitmap = new byte[(columnNumber + 9) / 8];
@@ -46,10 +50,9 @@ public class BinaryRowDecoder extends RowDecoder {
       return defaultCodec.decodeBinary(buf, length, column, type, factory);
     }
 
-    for (Codec<?> codec : Codecs.LIST) {
-      if (codec.canDecode(column, type)) {
-        return ((Codec<T>) codec).decodeBinary(buf, length, column, type, factory);
-      }
+    Codec<T> codec = codec(index, column, type);
+    if (codec != null) {
+      return codec.decodeBinary(buf, length, column, type, factory);
     }
 
     buf.skipBytes(length);
@@ -57,6 +60,42 @@ public class BinaryRowDecoder extends RowDecoder {
     throw noDecoderException(column, type);
   }
 
+  @Override
+  public boolean isNull(int index) {
+    return (nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) != 0;
+  }
+
+  @Override
+  protected boolean setPositionIfNotNull(int index) {
+    if (isNull(index)) return false;
+    setPosition(index);
+    return true;
+  }
+
+  @Override
+  public int getInt(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, IntCodec.INSTANCE, Integer.TYPE);
+    return IntCodec.INSTANCE.decodeBinaryInt(buf, length, column, factory);
+  }
+
+  @Override
+  public long getLong(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, LongCodec.INSTANCE, Long.TYPE);
+    return LongCodec.INSTANCE.decodeBinaryLong(buf, length, column, factory);
+  }
+
+  @Override
+  public double getDouble(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, DoubleCodec.INSTANCE, Double.TYPE);
+    return DoubleCodec.INSTANCE.decodeBinaryDouble(buf, length, column, factory);
+  }
+
+  @Override
+  public boolean getBoolean(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, BooleanCodec.INSTANCE, Boolean.TYPE);
+    return BooleanCodec.INSTANCE.decodeBinaryBoolean(buf, length, column, factory);
+  }
+
   @Override
   public void resetRow(ByteBuf buf) {
     buf.skipBytes(1); // skip 0x00 header
@@ -64,72 +103,59 @@ public class BinaryRowDecoder extends RowDecoder {
     super.resetRow(buf);
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
-  public void setPosition(int newIndex) {
-
-    if (index >= newIndex) {
-      index = 0;
-      buf.resetReaderIndex();
-    } else {
-      index++;
-    }
+  @Override
+  protected void skipField(int index) {
+    // null fields are only indicated in null-bitmap
+    if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) != 0) return;
+    switch (columns.get(index).getDataType()) {
+      case BIGINT:
+      case DOUBLE:
+        buf.skipBytes(8);
+        break;
+
+      case INTEGER:
+      case MEDIUMINT:
+      case FLOAT:
+        buf.skipBytes(4);
+        break;
+
+      case SMALLINT:
+      case YEAR:
+        buf.skipBytes(2);
+        break;
+
+      case TINYINT:
+        buf.skipBytes(1);
+        break;
 
-    for (; index < newIndex; index++) {
-      if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
-        // skip bytes
-        switch (columns.get(index).getDataType()) {
-          case BIGINT:
-          case DOUBLE:
-            buf.skipBytes(8);
+      default:
+        int type = this.buf.readUnsignedByte();
+        switch (type) {
+          case 251:
             break;
 
-          case INTEGER:
-          case MEDIUMINT:
-          case FLOAT:
-            buf.skipBytes(4);
+          case 252:
+            this.buf.skipBytes(this.buf.readUnsignedShortLE());
             break;
 
-          case SMALLINT:
-          case YEAR:
-            buf.skipBytes(2);
+          case 253:
+            this.buf.skipBytes(this.buf.readUnsignedMediumLE());
             break;
 
-          case TINYINT:
-            buf.skipBytes(1);
+          case 254:
+            this.buf.skipBytes((int) this.buf.readLongLE());
             break;
 
           default:
-            int type = this.buf.readUnsignedByte();
-            switch (type) {
-              case 251:
-                break;
-
-              case 252:
-                this.buf.skipBytes(this.buf.readUnsignedShortLE());
-                break;
-
-              case 253:
-                this.buf.skipBytes(this.buf.readUnsignedMediumLE());
-                break;
-
-              case 254:
-                this.buf.skipBytes((int) this.buf.readLongLE());
-                break;
-
-              default:
-                this.buf.skipBytes(type);
-                break;
-            }
+            this.buf.skipBytes(type);
             break;
         }
-      }
+        break;
     }
+  }
 
-    // read asked field position and length
+  @Override
+  protected void readLength(int index) {
     switch (columns.get(index).getDataType()) {
       case BIGINT:
       case DOUBLE:
@@ -5,11 +5,13 @@ package org.mariadb.r2dbc.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface Codec<T> {
@@ -40,10 +42,32 @@ public interface Codec<T> {
   DataType getBinaryEncodeType();
 
   default BindValue createEncodedValue(Supplier<? extends ByteBuf> bufferSupplier) {
-    return new BindValue(this, Mono.fromSupplier(bufferSupplier));
+    return new BindValue(this, bufferSupplier, null);
+  }
+
+  default BindValue createEncodedValue(
+      Supplier<? extends ByteBuf> bufferSupplier, Flux<? extends ByteBuf> longData) {
+    return new BindValue(this, bufferSupplier, longData);
+  }
+
+  /**
+   * Create a value written directly into command buffer when sending command.
+   *
+   * @param length encoded length, or an estimation when not known in advance. Only used as a hint
+   *     for sizing command buffer, never as a size limit
+   * @param writer value writer
+   * @return bind value
+   */
+  default BindValue createEncodedValue(int length, Consumer<ByteBuf> writer) {
+    return new BindValue(this, length, writer);
   }
 
   default BindValue createEncodedValue(Mono<? extends ByteBuf> value) {
     return new BindValue(this, value);
   }
+
+  default BindValue createEncodedValue(
+      Mono<? extends ByteBuf> value, Flux<? extends ByteBuf> longData) {
+    return new BindValue(this, value, longData);
+  }
 }
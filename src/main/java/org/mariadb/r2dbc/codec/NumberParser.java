@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.codec;
+
+import io.netty.buffer.ByteBuf;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text protocol numeric parsing, reading directly from row buffer.
+ *
+ * <p>Plain decimal values ({@code [-]digits[.digits]}) of at most 18 digits, the common case, are
+ * parsed without creating any intermediate String. Other values (exponent notation, longer values,
+ * or invalid values) must be parsed using String and JDK parsers, for exact results and identical
+ * error handling.
+ */
+public final class NumberParser {
+
+  private static final int MAX_DIGITS = 18;
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+  private static final long[] LONG_POWERS_OF_TEN = new long[MAX_DIGITS + 1];
+  private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_DIGITS + 1];
+
+  static {
+    long pow = 1;
+    for (int i = 0; i <= MAX_DIGITS; i++) {
+      LONG_POWERS_OF_TEN[i] = pow;
+      // powers of ten up to 10^22 are exactly represented as double
+      DOUBLE_POWERS_OF_TEN[i] = pow;
+      pow *= 10;
+    }
+  }
+
+  private NumberParser() {}
+
+  /**
+   * Check if value at buffer reader index is a plain decimal value of at most 18 digits. Buffer
+   * position is not changed.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @return number of fractional digits (0 if value has no decimal point), or -1 if value has not
+   *     a plain decimal format
+   */
+  public static int plainScale(ByteBuf buf, int length) {
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    if (idx < end && buf.getByte(idx) == '-') idx++;
+
+    int digits = 0;
+    int scale = -1;
+    for (; idx < end; idx++) {
+      byte b = buf.getByte(idx);
+      if (b >= '0' && b <= '9') {
+        digits++;
+        if (scale >= 0) scale++;
+      } else if (b == '.' && scale < 0) {
+        scale = 0;
+      } else {
+        return -1;
+      }
+    }
+    // decimal point without fractional digits is left to JDK parsers
+    if (digits == 0 || digits > MAX_DIGITS || scale == 0) return -1;
+    return scale < 0 ? 0 : scale;
+  }
+
+  /**
+   * Read unscaled value of a plain decimal value, ignoring decimal point.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @return unscaled value
+   */
+  private static long readUnscaled(ByteBuf buf, int length) {
+    long result = 0;
+    boolean negate = false;
+    int idx = buf.readerIndex();
+    int end = idx + length;
+    if (buf.getByte(idx) == '-') {
+      negate = true;
+      idx++;
+    }
+    for (; idx < end; idx++) {
+      byte b = buf.getByte(idx);
+      if (b != '.') result = result * 10 + b - '0';
+    }
+    buf.skipBytes(length);
+    return negate ? -result : result;
+  }
+
+  /**
+   * Read plain decimal value, truncated to integer (equivalent to {@link
+   * java.math.RoundingMode#DOWN}).
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param scale value scale, as returned by {@link #plainScale(ByteBuf, int)}
+   * @return integer value
+   */
+  public static long readTruncated(ByteBuf buf, int length, int scale) {
+    return readUnscaled(buf, length) / LONG_POWERS_OF_TEN[scale];
+  }
+
+  /**
+   * Read plain decimal value as BigDecimal.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param scale value scale, as returned by {@link #plainScale(ByteBuf, int)}
+   * @return decimal value
+   */
+  public static BigDecimal readBigDecimal(ByteBuf buf, int length, int scale) {
+    return BigDecimal.valueOf(readUnscaled(buf, length), scale);
+  }
+
+  /**
+   * Read plain decimal value as double. When unscaled value is exactly represented as double,
+   * dividing it by power of ten (exactly represented too) gives correctly rounded result, otherwise
+   * value is parsed with JDK parser.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param scale value scale, as returned by {@link #plainScale(ByteBuf, int)}
+   * @return double value
+   */
+  public static double readDouble(ByteBuf buf, int length, int scale) {
+    int idx = buf.readerIndex();
+    boolean negative = buf.getByte(idx) == '-';
+    long unscaled = readUnscaled(buf, length);
+    if (unscaled == 0) return negative ? -0d : 0d;
+    if (scale == 0) return unscaled;
+    if (Math.abs(unscaled) <= MAX_EXACT_DOUBLE) return unscaled / DOUBLE_POWERS_OF_TEN[scale];
+    return Double.parseDouble(buf.toString(idx, length, StandardCharsets.US_ASCII));
+  }
+}
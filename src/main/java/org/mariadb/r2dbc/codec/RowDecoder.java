@@ -4,6 +4,7 @@
 package org.mariadb.r2dbc.codec;
 
 import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
 import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
@@ -19,18 +20,113 @@ public abstract class RowDecoder {
   protected MariadbConnectionConfiguration conf;
   protected ExceptionFactory factory;
 
-  public RowDecoder(MariadbConnectionConfiguration conf, ExceptionFactory factory) {
+  // codec resolved for each column, with corresponding requested type
+  private Class<?>[] codecTypes;
+  private Codec<?>[] codecs;
+
+  // primitive type already validated for each column
+  private Class<?>[] primitiveTypes;
+
+  // current row field offsets. Only the first knownOffsets values are set for current row
+  private int[] offsets;
+  private int knownOffsets;
+
+  public RowDecoder(
+      int columnNumber, MariadbConnectionConfiguration conf, ExceptionFactory factory) {
     Assert.requireNonNull(factory, "missing factory parameter");
     this.conf = conf;
     this.factory = factory;
+    this.codecTypes = new Class<?>[columnNumber];
+    this.codecs = new Codec<?>[columnNumber];
+    this.primitiveTypes = new Class<?>[columnNumber];
+    this.offsets = new int[columnNumber + 1];
+  }
+
+  /**
+   * Return codec able to decode column to requested type, or null if none. Codec is resolved once
+   * for a column and requested type, then reused for following rows of the result-set.
+   *
+   * @param index column index
+   * @param column column definition
+   * @param type requested type
+   * @param <T> requested type
+   * @return codec or null
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> Codec<T> codec(int index, ColumnDefinitionPacket column, Class<T> type) {
+    if (index < codecTypes.length && codecTypes[index] == type && type != null) {
+      return (Codec<T>) codecs[index];
+    }
+
+    for (Codec<?> codec : Codecs.LIST) {
+      if (codec.canDecode(column, type)) {
+        if (index >= codecTypes.length) {
+          codecTypes = Arrays.copyOf(codecTypes, index + 1);
+          codecs = Arrays.copyOf(codecs, index + 1);
+        }
+        codecTypes[index] = type;
+        codecs[index] = codec;
+        return (Codec<T>) codec;
+      }
+    }
+    return null;
   }
 
   public void resetRow(ByteBuf buf) {
     this.buf = buf;
     this.buf.markReaderIndex();
     index = -1;
+    offsets[0] = buf.readerIndex();
+    knownOffsets = 1;
+  }
+
+  /**
+   * Set length and pos indicator to asked index.
+   *
+   * <p>Field offsets are registered while reading the row, so any field already reached is
+   * accessed directly, whatever the access order. Since offset of next field is known once length
+   * is read, sequential access never needs to skip fields.
+   *
+   * @param newIndex index (0 is first).
+   */
+  public void setPosition(int newIndex) {
+    if (newIndex >= offsets.length - 1) {
+      offsets = Arrays.copyOf(offsets, newIndex + 2);
+    }
+
+    if (newIndex < knownOffsets) {
+      buf.readerIndex(offsets[newIndex]);
+    } else {
+      // skip fields from last known offset, registering offsets
+      buf.readerIndex(offsets[knownOffsets - 1]);
+      for (int i = knownOffsets - 1; i < newIndex; i++) {
+        skipField(i);
+        offsets[i + 1] = buf.readerIndex();
+      }
+      knownOffsets = newIndex + 1;
+    }
+
+    index = newIndex;
+    readLength(newIndex);
+    if (knownOffsets == newIndex + 1) {
+      offsets[knownOffsets++] = buf.readerIndex() + (length == NULL_LENGTH ? 0 : length);
+    }
   }
 
+  /**
+   * Skip field at current position.
+   *
+   * @param index field index
+   */
+  protected abstract void skipField(int index);
+
+  /**
+   * Read length of field at current position, leaving position at field data.
+   *
+   * @param index field index
+   */
+  protected abstract void readLength(int index);
+
   protected IllegalArgumentException noDecoderException(
       ColumnDefinitionPacket column, Class<?> type) {
 
@@ -74,7 +170,58 @@ public abstract class RowDecoder {
             type.getName(), column.getDataType().toString()));
   }
 
-  public abstract void setPosition(int position);
+  /**
+   * Set position to asked index if value is not null.
+   *
+   * @param index index (0 is first)
+   * @return true if value is not null
+   */
+  protected abstract boolean setPositionIfNotNull(int index);
+
+  /**
+   * Indicate if value at asked index is null.
+   *
+   * @param index index (0 is first)
+   * @return true if value is null
+   */
+  public boolean isNull(int index) {
+    return !setPositionIfNotNull(index);
+  }
+
+  /**
+   * Set position to asked index, ensuring value is not null and can be decoded by codec. Codec
+   * compatibility is checked once for a column and primitive type, then reused for following rows
+   * of the result-set.
+   *
+   * @param index index (0 is first)
+   * @param column column definition
+   * @param codec primitive codec
+   * @param type primitive type
+   */
+  protected void setPrimitivePosition(
+      int index, ColumnDefinitionPacket column, Codec<?> codec, Class<?> type) {
+    if (!setPositionIfNotNull(index)) {
+      throw new IllegalArgumentException(
+          String.format("Cannot return null for primitive %s", type.getName()));
+    }
+    if (index < primitiveTypes.length && primitiveTypes[index] == type) return;
+    if (!codec.canDecode(column, type)) {
+      buf.skipBytes(length);
+      throw noDecoderException(column, type);
+    }
+    if (index >= primitiveTypes.length) {
+      primitiveTypes = Arrays.copyOf(primitiveTypes, index + 1);
+    }
+    primitiveTypes[index] = type;
+  }
+
+  public abstract int getInt(int index, ColumnDefinitionPacket column);
+
+  public abstract long getLong(int index, ColumnDefinitionPacket column);
+
+  public abstract double getDouble(int index, ColumnDefinitionPacket column);
+
+  public abstract boolean getBoolean(int index, ColumnDefinitionPacket column);
 
   @SuppressWarnings("unchecked")
   public abstract <T> T get(int index, ColumnDefinitionPacket column, Class<T> type)
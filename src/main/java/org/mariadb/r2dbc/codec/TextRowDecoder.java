@@ -6,6 +6,10 @@ package org.mariadb.r2dbc.codec;
 import java.util.List;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.codec.list.BooleanCodec;
+import org.mariadb.r2dbc.codec.list.DoubleCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.LongCodec;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 
 public class TextRowDecoder extends RowDecoder {
@@ -14,7 +18,7 @@ public class TextRowDecoder extends RowDecoder {
       List<ColumnDefinitionPacket> columns,
       MariadbConnectionConfiguration conf,
       ExceptionFactory factory) {
-    super(conf, factory);
+    super(columns.size(), conf, factory);
   }
 
   @SuppressWarnings("unchecked")
@@ -36,10 +40,9 @@ public class TextRowDecoder extends RowDecoder {
       return defaultCodec.decodeText(buf, length, column, type, factory);
     }
 
-    for (Codec<?> codec : Codecs.LIST) {
-      if (codec.canDecode(column, type)) {
-        return ((Codec<T>) codec).decodeText(buf, length, column, type, factory);
-      }
+    Codec<T> codec = codec(index, column, type);
+    if (codec != null) {
+      return codec.decodeText(buf, length, column, type, factory);
     }
 
     buf.skipBytes(length);
@@ -47,38 +50,59 @@ public class TextRowDecoder extends RowDecoder {
     throw noDecoderException(column, type);
   }
 
-  /**
-   * Set length and pos indicator to asked index.
-   *
-   * @param newIndex index (0 is first).
-   */
-  public void setPosition(int newIndex) {
-    if (index >= newIndex) {
-      index = -1;
-      buf.resetReaderIndex();
-    }
+  @Override
+  protected boolean setPositionIfNotNull(int index) {
+    setPosition(index);
+    return length != NULL_LENGTH;
+  }
 
-    index++;
-
-    for (; index < newIndex; index++) {
-      int type = this.buf.readUnsignedByte();
-      switch (type) {
-        case 252:
-          buf.skipBytes(buf.readUnsignedShortLE());
-          break;
-        case 253:
-          buf.skipBytes(buf.readUnsignedMediumLE());
-          break;
-        case 254:
-          buf.skipBytes((int) (buf.readLongLE()));
-          break;
-        case 251:
-          break;
-        default:
-          buf.skipBytes(type);
-          break;
-      }
+  @Override
+  public int getInt(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, IntCodec.INSTANCE, Integer.TYPE);
+    return IntCodec.INSTANCE.decodeTextInt(buf, length, column, factory);
+  }
+
+  @Override
+  public long getLong(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, LongCodec.INSTANCE, Long.TYPE);
+    return LongCodec.INSTANCE.decodeTextLong(buf, length, column, factory);
+  }
+
+  @Override
+  public double getDouble(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, DoubleCodec.INSTANCE, Double.TYPE);
+    return DoubleCodec.INSTANCE.decodeTextDouble(buf, length, column, factory);
+  }
+
+  @Override
+  public boolean getBoolean(int index, ColumnDefinitionPacket column) {
+    setPrimitivePosition(index, column, BooleanCodec.INSTANCE, Boolean.TYPE);
+    return BooleanCodec.INSTANCE.decodeTextBoolean(buf, length, column, factory);
+  }
+
+  @Override
+  protected void skipField(int index) {
+    int type = this.buf.readUnsignedByte();
+    switch (type) {
+      case 252:
+        buf.skipBytes(buf.readUnsignedShortLE());
+        break;
+      case 253:
+        buf.skipBytes(buf.readUnsignedMediumLE());
+        break;
+      case 254:
+        buf.skipBytes((int) (buf.readLongLE()));
+        break;
+      case 251:
+        break;
+      default:
+        buf.skipBytes(type);
+        break;
     }
+  }
+
+  @Override
+  protected void readLength(int index) {
     short type = this.buf.readUnsignedByte();
     switch (type) {
       case 251:
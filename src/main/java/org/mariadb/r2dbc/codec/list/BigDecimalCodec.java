@@ -12,6 +12,7 @@ import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.codec.NumberParser;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
@@ -65,6 +66,8 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
       case YEAR:
       case DECIMAL:
       case OLDDECIMAL:
+        int scale = NumberParser.plainScale(buf, length);
+        if (scale >= 0) return NumberParser.readBigDecimal(buf, length, scale);
         return new BigDecimal(buf.readCharSequence(length, StandardCharsets.UTF_8).toString());
 
       case BIT:
@@ -77,6 +80,8 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
 
       default:
         // VARCHAR, VARSTRING, STRING
+        int strScale = NumberParser.plainScale(buf, length);
+        if (strScale >= 0) return NumberParser.readBigDecimal(buf, length, strScale);
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           return new BigDecimal(str);
@@ -165,15 +170,17 @@ public class BigDecimalCodec implements Codec<BigDecimal> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> BufferUtils.encodeAscii(allocator, ((BigDecimal) value).toPlainString()));
+    String str = ((BigDecimal) value).toPlainString();
+    return createEncodedValue(str.length(), buf -> BufferUtils.writeAscii(buf, str));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    String str = ((BigDecimal) value).toPlainString();
     return createEncodedValue(
-        () -> BufferUtils.encodeLengthAscii(allocator, ((BigDecimal) value).toPlainString()));
+        BufferUtils.lengthEncodedSize(str.length()) + str.length(),
+        buf -> BufferUtils.writeLengthAscii(buf, str));
   }
 
   public DataType getBinaryEncodeType() {
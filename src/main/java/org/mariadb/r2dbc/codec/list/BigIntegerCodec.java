@@ -167,13 +167,17 @@ public class BigIntegerCodec implements Codec<BigInteger> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeAscii(allocator, value.toString()));
+    String str = value.toString();
+    return createEncodedValue(str.length(), buf -> BufferUtils.writeAscii(buf, str));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeLengthAscii(allocator, value.toString()));
+    String str = value.toString();
+    return createEncodedValue(
+        BufferUtils.lengthEncodedSize(str.length()) + str.length(),
+        buf -> BufferUtils.writeLengthAscii(buf, str));
   }
 
   public DataType getBinaryEncodeType() {
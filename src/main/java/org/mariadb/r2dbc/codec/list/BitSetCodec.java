@@ -69,29 +69,27 @@ public class BitSetCodec implements Codec<BitSet> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
+    byte[] bytes = ((BitSet) value).toByteArray();
+    revertOrder(bytes);
     return createEncodedValue(
-        () -> {
-          byte[] bytes = ((BitSet) value).toByteArray();
-          revertOrder(bytes);
-
-          StringBuilder sb = new StringBuilder(bytes.length * Byte.SIZE + 3);
-          sb.append("b'");
+        bytes.length * Byte.SIZE + 3,
+        buf -> {
+          buf.writeByte('b');
+          buf.writeByte('\'');
           for (int i = 0; i < Byte.SIZE * bytes.length; i++)
-            sb.append((bytes[i / Byte.SIZE] << i % Byte.SIZE & 0x80) == 0 ? '0' : '1');
-          sb.append("'");
-          return BufferUtils.encodeAscii(allocator, sb.toString());
+            buf.writeByte((bytes[i / Byte.SIZE] << i % Byte.SIZE & 0x80) == 0 ? '0' : '1');
+          buf.writeByte('\'');
         });
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    byte[] bytes = ((BitSet) value).toByteArray();
+    revertOrder(bytes);
     return createEncodedValue(
-        () -> {
-          byte[] bytes = ((BitSet) value).toByteArray();
-          revertOrder(bytes);
-          return BufferUtils.encodeLengthBytes(allocator, bytes);
-        });
+        BufferUtils.lengthEncodedSize(bytes.length) + bytes.length,
+        buf -> BufferUtils.writeLengthBytes(buf, bytes));
   }
 
   public DataType getBinaryEncodeType() {
@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.r2dbc.spi.Blob;
 import java.nio.ByteBuffer;
@@ -24,6 +25,9 @@ public class BlobCodec implements Codec<Blob> {
 
   public static final BlobCodec INSTANCE = new BlobCodec();
 
+  // maximum size of published chunks, corresponding to protocol packet maximum size
+  static final int CHUNK_SIZE = 0xffffff;
+
   private static final EnumSet<DataType> COMPATIBLE_TYPES =
       EnumSet.of(
           DataType.BIT,
@@ -110,7 +114,7 @@ public class BlobCodec implements Codec<Blob> {
                   b.release();
                   return returnedBuf;
                 })
-            .doOnSubscribe(e -> ((Blob) value).discard()));
+            .doFinally(s -> ((Blob) value).discard()));
   }
 
   @Override
@@ -127,10 +131,17 @@ public class BlobCodec implements Codec<Blob> {
                         true,
                         0,
                         Unpooled.wrappedBuffer(BufferUtils.encodeLength(c.readableBytes()))))
-            .doOnSubscribe(e -> ((Blob) value).discard()));
+            .doFinally(s -> ((Blob) value).discard()),
+        Flux.defer(() -> ((Blob) value).stream())
+            .map(Unpooled::wrappedBuffer)
+            .doFinally(s -> ((Blob) value).discard()));
   }
 
-  private class MariaDbBlob implements Blob {
+  /**
+   * Blob backed by row buffer. Value is copied and published on demand by chunks of at most {@link
+   * #CHUNK_SIZE} bytes, buffer being released once stream terminates or is cancelled.
+   */
+  private static class MariaDbBlob implements Blob {
     private ByteBuf data;
 
     public MariaDbBlob(ByteBuf data) {
@@ -139,7 +150,21 @@ public class BlobCodec implements Codec<Blob> {
 
     @Override
     public Publisher<ByteBuffer> stream() {
-      return Mono.just(this.data.nioBuffer()).doAfterTerminate(this::discard);
+      final ByteBuf value = this.data;
+      if (value == null) {
+        return Flux.error(new IllegalStateException("Blob has already been consumed or discarded"));
+      }
+      return Flux.<ByteBuffer, Integer>generate(
+              () -> 0,
+              (offset, sink) -> {
+                int len = Math.min(CHUNK_SIZE, value.readableBytes() - offset);
+                int index = value.readerIndex() + offset;
+                // copied, since row buffer is released when stream terminates
+                sink.next(ByteBuffer.wrap(ByteBufUtil.getBytes(value, index, len)));
+                if (offset + len >= value.readableBytes()) sink.complete();
+                return offset + len;
+              })
+          .doFinally(s -> discard());
     }
 
     @Override
@@ -52,6 +52,20 @@ public class BooleanCodec implements Codec<Boolean> {
       ColumnDefinitionPacket column,
       Class<? extends Boolean> type,
       ExceptionFactory factory) {
+    return decodeTextBoolean(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value to primitive boolean, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public boolean decodeTextBoolean(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     switch (column.getDataType()) {
       case BIT:
         return ByteCodec.parseBit(buf, length) != 0;
@@ -87,6 +101,20 @@ public class BooleanCodec implements Codec<Boolean> {
       ColumnDefinitionPacket column,
       Class<? extends Boolean> type,
       ExceptionFactory factory) {
+    return decodeBinaryBoolean(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value to primitive boolean, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public boolean decodeBinaryBoolean(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     switch (column.getDataType()) {
       case BIT:
@@ -126,14 +154,13 @@ public class BooleanCodec implements Codec<Boolean> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> BufferUtils.encodeAscii(allocator, ((Boolean) value) ? "1" : "0"));
+    return createEncodedValue(1, buf -> buf.writeByte(((Boolean) value) ? '1' : '0'));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeByte(allocator, ((Boolean) value) ? 1 : 0));
+    return createEncodedValue(1, buf -> buf.writeByte(((Boolean) value) ? 1 : 0));
   }
 
   public DataType getBinaryEncodeType() {
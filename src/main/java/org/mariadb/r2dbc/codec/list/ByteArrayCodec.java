@@ -67,16 +67,19 @@ public class ByteArrayCodec implements Codec<byte[]> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
+    byte[] bytes = (byte[]) value;
     return createEncodedValue(
-        () ->
-            BufferUtils.encodeEscapedBytes(
-                allocator, BufferUtils.BINARY_PREFIX, (byte[]) value, context));
+        bytes.length + 10,
+        buf -> BufferUtils.writeEscapedBytes(buf, BufferUtils.BINARY_PREFIX, bytes, context));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeLengthBytes(allocator, (byte[]) value));
+    byte[] bytes = (byte[]) value;
+    return createEncodedValue(
+        BufferUtils.lengthEncodedSize(bytes.length) + bytes.length,
+        buf -> BufferUtils.writeLengthBytes(buf, bytes));
   }
 
   public DataType getBinaryEncodeType() {
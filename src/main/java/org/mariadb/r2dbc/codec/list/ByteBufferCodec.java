@@ -9,13 +9,16 @@ import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import java.nio.ByteBuffer;
 import java.util.EnumSet;
+import java.util.function.Supplier;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
 import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Mono;
 
 public class ByteBufferCodec implements Codec<ByteBuffer> {
 
@@ -107,16 +110,19 @@ public class ByteBufferCodec implements Codec<ByteBuffer> {
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
+    ByteBuffer val = (ByteBuffer) value;
+    Supplier<CompositeByteBuf> encoded =
         () -> {
-          ByteBuffer val = (ByteBuffer) value;
           CompositeByteBuf compositeByteBuf = allocator.compositeBuffer();
           ByteBuf buf = Unpooled.wrappedBuffer(val);
           compositeByteBuf.addComponent(
               true, Unpooled.wrappedBuffer(BufferUtils.encodeLength(val.remaining())));
           compositeByteBuf.addComponent(true, buf);
           return compositeByteBuf;
-        });
+        };
+    if (val.remaining() <= LongDataPacket.MAX_CHUNK_SIZE) return createEncodedValue(encoded);
+    // huge value: avoid copying it in execute command buffer
+    return createEncodedValue(encoded, Mono.fromSupplier(() -> Unpooled.wrappedBuffer(val)).flux());
   }
 
   public DataType getBinaryEncodeType() {
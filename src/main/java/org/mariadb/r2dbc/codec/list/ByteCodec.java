@@ -219,14 +219,13 @@ public class ByteCodec implements Codec<Byte> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> BufferUtils.encodeAscii(allocator, Integer.toString((Byte) value)));
+    return createEncodedValue(4, buf -> BufferUtils.writeAscii(buf, value.toString()));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeByte(allocator, (Byte) value));
+    return createEncodedValue(1, buf -> buf.writeByte((Byte) value));
   }
 
   public DataType getBinaryEncodeType() {
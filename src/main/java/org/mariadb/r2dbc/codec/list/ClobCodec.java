@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.r2dbc.spi.Clob;
 import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
@@ -15,6 +16,7 @@ import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
 import org.mariadb.r2dbc.util.BufferUtils;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -40,8 +42,7 @@ public class ClobCodec implements Codec<Clob> {
       ColumnDefinitionPacket column,
       Class<? extends Clob> type,
       ExceptionFactory factory) {
-    String rawValue = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
-    return Clob.from(Mono.just(rawValue));
+    return new MariaDbClob(buf.readRetainedSlice(length));
   }
 
   @Override
@@ -51,8 +52,7 @@ public class ClobCodec implements Codec<Clob> {
       ColumnDefinitionPacket column,
       Class<? extends Clob> type,
       ExceptionFactory factory) {
-    String rawValue = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
-    return Clob.from(Mono.just(rawValue));
+    return new MariaDbClob(buf.readRetainedSlice(length));
   }
 
   @Override
@@ -68,7 +68,7 @@ public class ClobCodec implements Codec<Clob> {
                         BufferUtils.STRING_PREFIX,
                         b.toString().getBytes(StandardCharsets.UTF_8),
                         context))
-            .doOnSubscribe(e -> ((Clob) value).discard()));
+            .doFinally(s -> ((Clob) value).discard()));
   }
 
   @Override
@@ -78,10 +78,58 @@ public class ClobCodec implements Codec<Clob> {
         Flux.from(((Clob) value).stream())
             .reduce(new StringBuilder(), (a, b) -> a.append(b))
             .map(b -> BufferUtils.encodeLengthUtf8(allocator, b.toString()))
-            .doOnSubscribe(e -> ((Clob) value).discard()));
+            .doFinally(s -> ((Clob) value).discard()),
+        Flux.defer(() -> ((Clob) value).stream())
+            .map(b -> ByteBufUtil.writeUtf8(allocator, b))
+            .doFinally(s -> ((Clob) value).discard()));
   }
 
   public DataType getBinaryEncodeType() {
     return DataType.VARSTRING;
   }
+
+  /**
+   * Clob backed by row buffer. Value is decoded and published on demand by chunks of at most {@link
+   * BlobCodec#CHUNK_SIZE} bytes, never splitting a UTF-8 character, buffer being released once
+   * stream terminates or is cancelled.
+   */
+  private static class MariaDbClob implements Clob {
+    private ByteBuf data;
+
+    public MariaDbClob(ByteBuf data) {
+      this.data = data;
+    }
+
+    @Override
+    public Publisher<CharSequence> stream() {
+      final ByteBuf value = this.data;
+      if (value == null) {
+        return Flux.error(new IllegalStateException("Clob has already been consumed or discarded"));
+      }
+      return Flux.<CharSequence, Integer>generate(
+              () -> 0,
+              (offset, sink) -> {
+                int total = value.readableBytes();
+                int end = Math.min(offset + BlobCodec.CHUNK_SIZE, total);
+                // UTF-8 continuation bytes have 10xxxxxx form
+                while (end < total && (value.getByte(value.readerIndex() + end) & 0xC0) == 0x80) {
+                  end--;
+                }
+                int index = value.readerIndex() + offset;
+                sink.next(value.toString(index, end - offset, StandardCharsets.UTF_8));
+                if (end >= total) sink.complete();
+                return end;
+              })
+          .doFinally(s -> discard());
+    }
+
+    @Override
+    public Publisher<Void> discard() {
+      if (data != null) {
+        this.data.release();
+        this.data = null;
+      }
+      return Mono.empty();
+    }
+  }
 }
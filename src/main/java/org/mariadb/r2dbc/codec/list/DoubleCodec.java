@@ -12,6 +12,7 @@ import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.codec.NumberParser;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
@@ -53,6 +54,23 @@ public class DoubleCodec implements Codec<Double> {
       ColumnDefinitionPacket column,
       Class<? extends Double> type,
       ExceptionFactory factory) {
+    return decodeTextDouble(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value to primitive double, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public double decodeTextDouble(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
+    int scale = NumberParser.plainScale(buf, length);
+    if (scale >= 0) return NumberParser.readDouble(buf, length, scale);
+
     switch (column.getDataType()) {
       case TINYINT:
       case SMALLINT:
@@ -64,13 +82,14 @@ public class DoubleCodec implements Codec<Double> {
       case OLDDECIMAL:
       case DECIMAL:
       case YEAR:
-        return Double.valueOf(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        return Double.parseDouble(
+            buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
 
       default:
         // VARCHAR, VARSTRING, STRING:
         String str2 = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
-          return Double.valueOf(str2);
+          return Double.parseDouble(str2);
         } catch (NumberFormatException nfe) {
           throw factory.createParsingException(
               String.format("value '%s' cannot be decoded as Double", str2));
@@ -85,6 +104,20 @@ public class DoubleCodec implements Codec<Double> {
       ColumnDefinitionPacket column,
       Class<? extends Double> type,
       ExceptionFactory factory) {
+    return decodeBinaryDouble(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value to primitive double, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public double decodeBinaryDouble(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     switch (column.getDataType()) {
       case DOUBLE:
         return buf.readDoubleLE();
@@ -138,7 +171,7 @@ public class DoubleCodec implements Codec<Double> {
         // VARCHAR, VARSTRING, STRING:
         String str2 = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
-          return Double.valueOf(str2);
+          return Double.parseDouble(str2);
         } catch (NumberFormatException nfe) {
           throw factory.createParsingException(
               String.format("value '%s' cannot be decoded as Double", str2));
@@ -149,18 +182,13 @@ public class DoubleCodec implements Codec<Double> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeAscii(allocator, value.toString()));
+    return createEncodedValue(24, buf -> BufferUtils.writeAscii(buf, value.toString()));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer(8, 8);
-          buf.writeDoubleLE((Double) value);
-          return buf;
-        });
+    return createEncodedValue(8, buf -> buf.writeDoubleLE((Double) value));
   }
 
   public DataType getBinaryEncodeType() {
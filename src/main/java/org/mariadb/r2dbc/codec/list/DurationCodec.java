@@ -48,9 +48,7 @@ public class DurationCodec implements Codec<Duration> {
     switch (column.getDataType()) {
       case TIMESTAMP:
       case DATETIME:
-        parts =
-            LocalDateTimeCodec.parseTimestamp(
-                buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         if (parts == null) return null;
         return Duration.ZERO
             .plusDays(parts[2] - 1)
@@ -151,7 +149,8 @@ public class DurationCodec implements Codec<Duration> {
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
     return createEncodedValue(
-        () -> {
+        20,
+        buf -> {
           Duration val = (Duration) value;
           long s = val.getSeconds();
           boolean negate = false;
@@ -159,7 +158,6 @@ public class DurationCodec implements Codec<Duration> {
             negate = true;
             s = -s;
           }
-          ByteBuf buf = allocator.buffer();
           long microSecond = val.getNano() / 1000;
           buf.writeByte('\'');
           String durationStr;
@@ -183,17 +181,16 @@ public class DurationCodec implements Codec<Duration> {
           }
           buf.writeCharSequence(durationStr, StandardCharsets.US_ASCII);
           buf.writeByte('\'');
-          return buf;
         });
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    Duration val = (Duration) value;
     return createEncodedValue(
-        () -> {
-          Duration val = (Duration) value;
-          ByteBuf buf = allocator.buffer();
+        val.getNano() >= 1000 ? 13 : 9,
+        buf -> {
           long microSecond = val.getNano() / 1000;
           long s = Math.abs(val.getSeconds());
           if (microSecond > 0) {
@@ -223,7 +220,6 @@ public class DurationCodec implements Codec<Duration> {
             buf.writeByte((int) (s % 3600) / 60);
             buf.writeByte((int) (s % 60));
           }
-          return buf;
         });
   }
 
@@ -149,18 +149,13 @@ public class FloatCodec implements Codec<Float> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeAscii(allocator, value.toString()));
+    return createEncodedValue(16, buf -> BufferUtils.writeAscii(buf, value.toString()));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer(4, 4);
-          buf.writeFloatLE((Float) value);
-          return buf;
-        });
+    return createEncodedValue(4, buf -> buf.writeFloatLE((Float) value));
   }
 
   public DataType getBinaryEncodeType() {
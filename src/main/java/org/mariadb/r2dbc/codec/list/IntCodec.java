@@ -13,6 +13,7 @@ import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.codec.NumberParser;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
@@ -56,6 +57,20 @@ public class IntCodec implements Codec<Integer> {
       ColumnDefinitionPacket column,
       Class<? extends Integer> type,
       ExceptionFactory factory) {
+    return decodeTextInt(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value to primitive int, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public int decodeTextInt(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     long result;
     switch (column.getDataType()) {
       case TINYINT:
@@ -83,6 +98,11 @@ public class IntCodec implements Codec<Integer> {
 
       default:
         // FLOAT, DOUBLE, OLDDECIMAL, VARCHAR, DECIMAL, ENUM, VARSTRING, STRING:
+        int scale = NumberParser.plainScale(buf, length);
+        if (scale >= 0) {
+          result = NumberParser.readTruncated(buf, length, scale);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -107,6 +127,20 @@ public class IntCodec implements Codec<Integer> {
       ColumnDefinitionPacket column,
       Class<? extends Integer> type,
       ExceptionFactory factory) {
+    return decodeBinaryInt(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value to primitive int, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public int decodeBinaryInt(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     long result;
     switch (column.getDataType()) {
@@ -182,18 +216,13 @@ public class IntCodec implements Codec<Integer> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeAscii(allocator, value.toString()));
+    return createEncodedValue(11, buf -> BufferUtils.writeAscii(buf, value.toString()));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer(4, 4);
-          buf.writeIntLE((Integer) value);
-          return buf;
-        });
+    return createEncodedValue(4, buf -> buf.writeIntLE((Integer) value));
   }
 
   public DataType getBinaryEncodeType() {
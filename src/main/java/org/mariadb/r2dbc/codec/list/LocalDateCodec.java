@@ -91,9 +91,7 @@ public class LocalDateCodec implements Codec<LocalDate> {
 
       case TIMESTAMP:
       case DATETIME:
-        parts =
-            LocalDateTimeCodec.parseTimestamp(
-                buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         break;
 
       default:
@@ -197,30 +195,28 @@ public class LocalDateCodec implements Codec<LocalDate> {
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
     return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer();
+        12,
+        buf -> {
           buf.writeByte('\'');
           buf.writeCharSequence(
               ((LocalDate) value).format(DateTimeFormatter.ISO_LOCAL_DATE),
               StandardCharsets.US_ASCII);
           buf.writeByte('\'');
-          return buf;
         });
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    LocalDate val = (LocalDate) value;
     return createEncodedValue(
-        () -> {
-          LocalDate val = (LocalDate) value;
-          ByteBuf buf = allocator.buffer(8, 8);
+        8,
+        buf -> {
           buf.writeByte(7); // length
           buf.writeShortLE((short) val.get(ChronoField.YEAR));
           buf.writeByte(val.get(ChronoField.MONTH_OF_YEAR));
           buf.writeByte(val.get(ChronoField.DAY_OF_MONTH));
-          buf.writeBytes(new byte[] {0, 0, 0});
-          return buf;
+          buf.writeZero(3);
         });
   }
 
@@ -48,6 +48,53 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
             .toFormatter();
   }
 
+  /**
+   * Parse text encoded DATETIME/TIMESTAMP value. Values with server fixed layout {@code YYYY-MM-DD
+   * hh:mm:ss[.ffffff]} are decoded directly from buffer, others are parsed like {@link
+   * #parseTimestamp(String)}.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @return year, month, day, hour, minutes, seconds, nanoseconds, or null for zero-date
+   */
+  public static int[] parseTimestamp(ByteBuf buf, int length) {
+    int pos = buf.readerIndex();
+    if (length < 19
+        || length == 20
+        || length > 26
+        || buf.getByte(pos + 4) != '-'
+        || buf.getByte(pos + 7) != '-'
+        || buf.getByte(pos + 10) != ' '
+        || buf.getByte(pos + 13) != ':'
+        || buf.getByte(pos + 16) != ':'
+        || (length > 19 && buf.getByte(pos + 19) != '.')) {
+      return parseTimestamp(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+    }
+
+    int[] timestampsPart = new int[7];
+    timestampsPart[0] = parseDigits(buf, pos, 4);
+    timestampsPart[1] = parseDigits(buf, pos + 5, 2);
+    timestampsPart[2] = parseDigits(buf, pos + 8, 2);
+    timestampsPart[3] = parseDigits(buf, pos + 11, 2);
+    timestampsPart[4] = parseDigits(buf, pos + 14, 2);
+    timestampsPart[5] = parseDigits(buf, pos + 17, 2);
+    if (length > 19) {
+      int nanos = parseDigits(buf, pos + 20, length - 20);
+      for (int i = length - 20; i < 9; i++) nanos *= 10;
+      timestampsPart[6] = nanos;
+    }
+    buf.skipBytes(length);
+    return zeroDate(timestampsPart);
+  }
+
+  private static int parseDigits(ByteBuf buf, int pos, int length) {
+    int result = 0;
+    for (int i = pos; i < pos + length; i++) {
+      result = result * 10 + buf.getByte(i) - 48;
+    }
+    return result;
+  }
+
   public static int[] parseTimestamp(String raw) {
     int nanoLen = -1;
     int[] timestampsPart = new int[] {0, 0, 0, 0, 0, 0, 0};
@@ -66,14 +113,6 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
       if (nanoLen >= 0) nanoLen++;
       timestampsPart[partIdx] = timestampsPart[partIdx] * 10 + b - 48;
     }
-    if (timestampsPart[0] == 0 && timestampsPart[1] == 0 && timestampsPart[2] == 0) {
-      if (timestampsPart[3] == 0
-          && timestampsPart[4] == 0
-          && timestampsPart[5] == 0
-          && timestampsPart[6] == 0) return null;
-      timestampsPart[1] = 1;
-      timestampsPart[2] = 1;
-    }
 
     // fix non leading tray for nanoseconds
     if (nanoLen >= 0) {
@@ -82,6 +121,18 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
       }
       timestampsPart[6] = timestampsPart[6] * 1000;
     }
+    return zeroDate(timestampsPart);
+  }
+
+  private static int[] zeroDate(int[] timestampsPart) {
+    if (timestampsPart[0] == 0 && timestampsPart[1] == 0 && timestampsPart[2] == 0) {
+      if (timestampsPart[3] == 0
+          && timestampsPart[4] == 0
+          && timestampsPart[5] == 0
+          && timestampsPart[6] == 0) return null;
+      timestampsPart[1] = 1;
+      timestampsPart[2] = 1;
+    }
     return timestampsPart;
   }
 
@@ -111,10 +162,10 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
 
       case DATETIME:
       case TIMESTAMP:
-        parts = parseTimestamp(buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        parts = parseTimestamp(buf, length);
         if (parts == null) return null;
-        return LocalDateTime.of(parts[0], parts[1], parts[2], parts[3], parts[4], parts[5])
-            .plusNanos(parts[6]);
+        return LocalDateTime.of(
+            parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
 
       case TIME:
         parts = LocalTimeCodec.parseTime(buf, length, column, factory);
@@ -209,47 +260,33 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
     return createEncodedValue(
-        () -> {
+        28,
+        buf -> {
           LocalDateTime val = (LocalDateTime) value;
-          ByteBuf buf = allocator.buffer();
           buf.writeByte('\'');
           buf.writeCharSequence(
               val.format(val.getNano() != 0 ? TIMESTAMP_FORMAT : TIMESTAMP_FORMAT_NO_FRACTIONAL),
               StandardCharsets.US_ASCII);
           buf.writeByte('\'');
-          return buf;
         });
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    LocalDateTime val = (LocalDateTime) value;
+    int nano = val.getNano();
     return createEncodedValue(
-        () -> {
-          ByteBuf buf;
-          LocalDateTime val = (LocalDateTime) value;
-          int nano = val.getNano();
-          if (nano > 0) {
-            buf = allocator.buffer(12, 12);
-            buf.writeByte((byte) 11);
-            buf.writeShortLE((short) val.get(ChronoField.YEAR));
-            buf.writeByte(val.get(ChronoField.MONTH_OF_YEAR));
-            buf.writeByte(val.get(ChronoField.DAY_OF_MONTH));
-            buf.writeByte(val.get(ChronoField.HOUR_OF_DAY));
-            buf.writeByte(val.get(ChronoField.MINUTE_OF_HOUR));
-            buf.writeByte(val.get(ChronoField.SECOND_OF_MINUTE));
-            buf.writeIntLE(nano / 1000);
-          } else {
-            buf = allocator.buffer(8, 8);
-            buf.writeByte((byte) 7);
-            buf.writeShortLE((short) val.get(ChronoField.YEAR));
-            buf.writeByte(val.get(ChronoField.MONTH_OF_YEAR));
-            buf.writeByte(val.get(ChronoField.DAY_OF_MONTH));
-            buf.writeByte(val.get(ChronoField.HOUR_OF_DAY));
-            buf.writeByte(val.get(ChronoField.MINUTE_OF_HOUR));
-            buf.writeByte(val.get(ChronoField.SECOND_OF_MINUTE));
-          }
-          return buf;
+        nano > 0 ? 12 : 8,
+        buf -> {
+          buf.writeByte((byte) (nano > 0 ? 11 : 7));
+          buf.writeShortLE((short) val.get(ChronoField.YEAR));
+          buf.writeByte(val.get(ChronoField.MONTH_OF_YEAR));
+          buf.writeByte(val.get(ChronoField.DAY_OF_MONTH));
+          buf.writeByte(val.get(ChronoField.HOUR_OF_DAY));
+          buf.writeByte(val.get(ChronoField.MINUTE_OF_HOUR));
+          buf.writeByte(val.get(ChronoField.SECOND_OF_MINUTE));
+          if (nano > 0) buf.writeIntLE(nano / 1000);
         });
   }
 
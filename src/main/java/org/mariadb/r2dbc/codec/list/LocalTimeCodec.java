@@ -99,9 +99,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
     switch (column.getDataType()) {
       case TIMESTAMP:
       case DATETIME:
-        parts =
-            LocalDateTimeCodec.parseTimestamp(
-                buf.readCharSequence(length, StandardCharsets.US_ASCII).toString());
+        parts = LocalDateTimeCodec.parseTimestamp(buf, length);
         if (parts == null) return null;
         return LocalTime.of(parts[3], parts[4], parts[5], parts[6]);
 
@@ -205,9 +203,9 @@ public class LocalTimeCodec implements Codec<LocalTime> {
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
     return createEncodedValue(
-        () -> {
+        17,
+        buf -> {
           LocalTime val = (LocalTime) value;
-          ByteBuf buf = allocator.buffer();
           StringBuilder dateString = new StringBuilder(15);
           dateString
               .append(val.getHour() < 10 ? "0" : "")
@@ -230,37 +228,24 @@ public class LocalTimeCodec implements Codec<LocalTime> {
           buf.writeByte('\'');
           buf.writeCharSequence(dateString.toString(), StandardCharsets.US_ASCII);
           buf.writeByte('\'');
-          return buf;
         });
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
+    LocalTime val = (LocalTime) value;
+    int nano = val.getNano();
     return createEncodedValue(
-        () -> {
-          ByteBuf buf;
-          LocalTime val = (LocalTime) value;
-          int nano = val.getNano();
-          if (nano > 0) {
-            buf = allocator.buffer(13, 13);
-            buf.writeByte((byte) 12);
-            buf.writeByte((byte) 0);
-            buf.writeIntLE(0);
-            buf.writeByte((byte) val.get(ChronoField.HOUR_OF_DAY));
-            buf.writeByte((byte) val.get(ChronoField.MINUTE_OF_HOUR));
-            buf.writeByte((byte) val.get(ChronoField.SECOND_OF_MINUTE));
-            buf.writeIntLE(nano / 1000);
-          } else {
-            buf = allocator.buffer(9, 9);
-            buf.writeByte((byte) 8);
-            buf.writeByte((byte) 0);
-            buf.writeIntLE(0);
-            buf.writeByte((byte) val.get(ChronoField.HOUR_OF_DAY));
-            buf.writeByte((byte) val.get(ChronoField.MINUTE_OF_HOUR));
-            buf.writeByte((byte) val.get(ChronoField.SECOND_OF_MINUTE));
-          }
-          return buf;
+        nano > 0 ? 13 : 9,
+        buf -> {
+          buf.writeByte((byte) (nano > 0 ? 12 : 8));
+          buf.writeByte((byte) 0);
+          buf.writeIntLE(0);
+          buf.writeByte((byte) val.get(ChronoField.HOUR_OF_DAY));
+          buf.writeByte((byte) val.get(ChronoField.MINUTE_OF_HOUR));
+          buf.writeByte((byte) val.get(ChronoField.SECOND_OF_MINUTE));
+          if (nano > 0) buf.writeIntLE(nano / 1000);
         });
   }
 
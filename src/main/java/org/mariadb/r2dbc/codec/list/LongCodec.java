@@ -13,6 +13,7 @@ import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.codec.NumberParser;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
@@ -74,12 +75,28 @@ public class LongCodec implements Codec<Long> {
       ColumnDefinitionPacket column,
       Class<? extends Long> type,
       ExceptionFactory factory) {
+    return decodeTextLong(buf, length, column, factory);
+  }
+
+  /**
+   * Decode text encoded value to primitive long, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public long decodeTextLong(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
     long result;
     switch (column.getDataType()) {
       case DECIMAL:
       case OLDDECIMAL:
       case DOUBLE:
       case FLOAT:
+        int scale = NumberParser.plainScale(buf, length);
+        if (scale >= 0) return NumberParser.readTruncated(buf, length, scale);
         String str1 = buf.readCharSequence(length, StandardCharsets.US_ASCII).toString();
         try {
           return new BigDecimal(str1).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -96,7 +113,8 @@ public class LongCodec implements Codec<Long> {
         return parse(buf, length);
 
       case BIGINT:
-        if (column.isSigned()) {
+        // unsigned values of at most 18 digits always fit in long
+        if (column.isSigned() || length <= 18) {
           result = parse(buf, length);
           break;
         } else {
@@ -120,6 +138,9 @@ public class LongCodec implements Codec<Long> {
 
       default:
         // STRING, VARCHAR, VARSTRING:
+        if (NumberParser.plainScale(buf, length) == 0) {
+          return NumberParser.readTruncated(buf, length, 0);
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           return new BigInteger(str).longValueExact();
@@ -139,6 +160,20 @@ public class LongCodec implements Codec<Long> {
       ColumnDefinitionPacket column,
       Class<? extends Long> type,
       ExceptionFactory factory) {
+    return decodeBinaryLong(buf, length, column, factory);
+  }
+
+  /**
+   * Decode binary encoded value to primitive long, without boxing.
+   *
+   * @param buf row buffer
+   * @param length value length
+   * @param column column definition
+   * @param factory exception factory
+   * @return decoded value
+   */
+  public long decodeBinaryLong(
+      ByteBuf buf, int length, ColumnDefinitionPacket column, ExceptionFactory factory) {
 
     switch (column.getDataType()) {
       case BIGINT:
@@ -213,18 +248,13 @@ public class LongCodec implements Codec<Long> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeAscii(allocator, String.valueOf(value)));
+    return createEncodedValue(20, buf -> BufferUtils.writeAscii(buf, String.valueOf(value)));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer(8, 8);
-          buf.writeLongLE((Long) value);
-          return buf;
-        });
+    return createEncodedValue(8, buf -> buf.writeLongLE((Long) value));
   }
 
   public DataType getBinaryEncodeType() {
@@ -12,6 +12,7 @@ import java.util.EnumSet;
 import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.codec.NumberParser;
 import org.mariadb.r2dbc.message.Context;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
@@ -76,6 +77,11 @@ public class ShortCodec implements Codec<Short> {
 
       default:
         // FLOAT, DOUBLE, OLDDECIMAL, VARCHAR, DECIMAL, ENUM, VARSTRING, STRING:
+        int scale = NumberParser.plainScale(buf, length);
+        if (scale >= 0) {
+          result = NumberParser.readTruncated(buf, length, scale);
+          break;
+        }
         String str = buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
         try {
           result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
@@ -165,19 +171,13 @@ public class ShortCodec implements Codec<Short> {
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> BufferUtils.encodeAscii(allocator, Integer.toString((Short) value)));
+    return createEncodedValue(6, buf -> BufferUtils.writeAscii(buf, value.toString()));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(
-        () -> {
-          ByteBuf buf = allocator.buffer(2, 2);
-          buf.writeShortLE((Short) value);
-          return buf;
-        });
+    return createEncodedValue(2, buf -> buf.writeShortLE((Short) value));
   }
 
   public DataType getBinaryEncodeType() {
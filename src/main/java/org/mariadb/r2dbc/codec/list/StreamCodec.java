@@ -12,9 +12,11 @@ import org.mariadb.r2dbc.ExceptionFactory;
 import org.mariadb.r2dbc.codec.Codec;
 import org.mariadb.r2dbc.codec.DataType;
 import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.client.LongDataPacket;
 import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
 import org.mariadb.r2dbc.util.BindValue;
 import org.mariadb.r2dbc.util.BufferUtils;
+import reactor.core.publisher.Flux;
 
 public class StreamCodec implements Codec<InputStream> {
 
@@ -102,7 +104,22 @@ public class StreamCodec implements Codec<InputStream> {
               true, Unpooled.wrappedBuffer(BufferUtils.encodeLength(buf.readableBytes())));
           compositeByteBuf.addComponent(true, buf);
           return compositeByteBuf;
-        });
+        },
+        Flux.<ByteBuf>generate(
+            sink -> {
+              ByteBuf buf = allocator.buffer(LongDataPacket.MAX_CHUNK_SIZE);
+              try {
+                if (buf.writeBytes((InputStream) value, LongDataPacket.MAX_CHUNK_SIZE) < 0) {
+                  buf.release();
+                  sink.complete();
+                } else {
+                  sink.next(buf);
+                }
+              } catch (IOException ioe) {
+                buf.release();
+                sink.error(factory.createParsingException("Failed to read InputStream", ioe));
+              }
+            }));
   }
 
   public DataType getBinaryEncodeType() {
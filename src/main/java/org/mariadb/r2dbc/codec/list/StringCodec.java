@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.codec.list;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -91,7 +92,7 @@ public class StringCodec implements Codec<String> {
       return sb.toString();
     }
 
-    return buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
+    return BufferUtils.readUtf8(buf, length);
   }
 
   @Override
@@ -255,26 +256,29 @@ public class StringCodec implements Codec<String> {
         return null;
 
       default:
-        return buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
+        return BufferUtils.readUtf8(buf, length);
     }
   }
 
   @Override
   public BindValue encodeText(
       ByteBufAllocator allocator, Object value, Context context, ExceptionFactory factory) {
+    String str = (String) value;
     return createEncodedValue(
-        () ->
-            BufferUtils.encodeEscapedBytes(
-                allocator,
-                BufferUtils.STRING_PREFIX,
-                ((String) value).getBytes(StandardCharsets.UTF_8),
-                context));
+        str.length() + 2,
+        buf ->
+            BufferUtils.writeEscapedBytes(
+                buf, BufferUtils.STRING_PREFIX, str.getBytes(StandardCharsets.UTF_8), context));
   }
 
   @Override
   public BindValue encodeBinary(
       ByteBufAllocator allocator, Object value, ExceptionFactory factory) {
-    return createEncodedValue(() -> BufferUtils.encodeLengthUtf8(allocator, (String) value));
+    String str = (String) value;
+    int len = ByteBufUtil.utf8Bytes(str);
+    return createEncodedValue(
+        BufferUtils.lengthEncodedSize(len) + len,
+        buf -> BufferUtils.writeLengthUtf8(buf, str, len));
   }
 
   public DataType getBinaryEncodeType() {
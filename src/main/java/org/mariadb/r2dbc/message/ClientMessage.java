@@ -8,12 +8,24 @@ import io.netty.buffer.ByteBufAllocator;
 import org.mariadb.r2dbc.message.server.Sequencer;
 
 public interface ClientMessage {
+
+  /** packet header size: 3 bytes length + 1 byte sequence */
+  int HEADER_SIZE = 4;
+
   default MessageSequence getSequencer() {
     return new Sequencer((byte) 0xff);
   }
 
   default void releaseEncodedBinds() {}
 
+  /**
+   * Encode message. The first {@link #HEADER_SIZE} bytes of returned buffer are reserved, permitting
+   * to write packet header in place, without having to allocate another buffer.
+   *
+   * @param context connection context
+   * @param byteBufAllocator allocator
+   * @return buffer, with header headroom
+   */
   ByteBuf encode(Context context, ByteBufAllocator byteBufAllocator);
 
   default void save(ByteBuf buf, int initialReaderIndex) {}
@@ -30,6 +30,15 @@ public interface Context {
 
   ServerVersion getVersion();
 
+  /**
+   * Server max_allowed_packet, limiting command size.
+   *
+   * @return max_allowed_packet value, or 0 if not read yet
+   */
+  int getMaxAllowedPacket();
+
+  void setMaxAllowedPacket(int maxAllowedPacket);
+
   ByteBufAllocator getByteBufAllocator();
 
   default void saveRedo(ClientMessage msg, ByteBuf buf, int initialReaderIndex) {}
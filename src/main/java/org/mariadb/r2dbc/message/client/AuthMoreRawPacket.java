@@ -21,7 +21,8 @@ public final class AuthMoreRawPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(raw.length);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + raw.length);
+    buf.writeZero(HEADER_SIZE);
     buf.writeBytes(raw);
     return buf;
   }
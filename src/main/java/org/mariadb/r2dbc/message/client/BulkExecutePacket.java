@@ -0,0 +1,162 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.util.ReferenceCountUtil;
+import java.util.Arrays;
+import java.util.List;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.server.Sequencer;
+import org.mariadb.r2dbc.util.BindEncodedValue;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+
+/**
+ * COM_STMT_BULK_EXECUTE packet, executing a prepared statement for multiple parameter sets at
+ * once. See https://mariadb.com/kb/en/com_stmt_bulk_execute/
+ *
+ * <p>Parameter sets are written into command buffer when added, permitting to limit command size
+ * on bytes actually written. When unit results are negotiated, server returns a result-set with
+ * generated id and affected rows of each parameter set, instead of a total.
+ */
+public final class BulkExecutePacket implements ClientMessage {
+
+  private static final int SEND_UNIT_RESULTS = 64;
+  private static final int SEND_TYPES_TO_SERVER = 128;
+  private static final int INDICATOR_NONE = 0;
+  private static final int INDICATOR_NULL = 1;
+  private static final int FLAGS_OFFSET = HEADER_SIZE + 5;
+
+  private final int statementId;
+  private final int[] types;
+  private final int[] defaultTypes;
+  private final int maxCommandSize;
+  private final MessageSequence sequencer = new Sequencer((byte) 0xff);
+  private ByteBuf buf;
+  private int rows;
+
+  /**
+   * Constructor.
+   *
+   * @param statementId prepared statement id
+   * @param parameterCount parameter number
+   * @param maxCommandSize maximum command size, server max_allowed_packet
+   * @param allocator command buffer allocator
+   */
+  public BulkExecutePacket(
+      int statementId, int parameterCount, int maxCommandSize, ByteBufAllocator allocator) {
+    this.statementId = statementId;
+    this.types = new int[parameterCount];
+    this.defaultTypes = new int[parameterCount];
+    Arrays.fill(this.types, -1);
+    this.maxCommandSize = maxCommandSize;
+    this.buf = allocator.ioBuffer(FLAGS_OFFSET + 2 + 2 * parameterCount);
+    buf.writeZero(HEADER_SIZE);
+    buf.writeByte(0xfa);
+    buf.writeIntLE(statementId);
+    // flags and parameter types are written when encoding
+    buf.writeZero(2 + 2 * parameterCount);
+  }
+
+  /**
+   * Add a parameter set to command, if parameter types are compatible with the ones already
+   * added, and if command doesn't exceed size limit once parameters are written. A first parameter
+   * set is always added. Parameter buffers are released once added, since their content has been
+   * copied into command buffer.
+   *
+   * @param values encoded parameters
+   * @return true if parameters have been added
+   */
+  public boolean add(List<BindEncodedValue> values) {
+    if (rows > 0) {
+      for (int i = 0; i < types.length; i++) {
+        BindEncodedValue value = values.get(i);
+        if (!value.isNull()) {
+          int type = value.getCodec().getBinaryEncodeType().get();
+          // type is defined by first non-null value of column
+          if (types[i] != -1 && types[i] != type) return false;
+        }
+      }
+    }
+
+    int mark = buf.writerIndex();
+    try {
+      for (BindEncodedValue value : values) {
+        if (value.isNull()) {
+          buf.writeByte(INDICATOR_NULL);
+        } else {
+          buf.writeByte(INDICATOR_NONE);
+          value.write(buf);
+        }
+      }
+    } catch (RuntimeException e) {
+      buf.writerIndex(mark);
+      throw e;
+    }
+    if (rows > 0 && buf.writerIndex() - HEADER_SIZE > maxCommandSize) {
+      buf.writerIndex(mark);
+      return false;
+    }
+
+    for (int i = 0; i < types.length; i++) {
+      BindEncodedValue value = values.get(i);
+      if (rows == 0) defaultTypes[i] = value.getCodec().getBinaryEncodeType().get();
+      if (types[i] == -1 && !value.isNull()) {
+        types[i] = value.getCodec().getBinaryEncodeType().get();
+      }
+      if (value.getValue() != null) ReferenceCountUtil.safeRelease(value.getValue());
+    }
+    rows++;
+    return true;
+  }
+
+  public int size() {
+    return rows;
+  }
+
+  @Override
+  public ByteBuf encode(Context context, ByteBufAllocator allocator) {
+    int flags = SEND_TYPES_TO_SERVER;
+    if ((context.getClientCapabilities() & Capabilities.MARIADB_CLIENT_BULK_UNIT_RESULTS) != 0) {
+      flags |= SEND_UNIT_RESULTS;
+    }
+    buf.setShortLE(FLAGS_OFFSET, flags);
+    for (int i = 0; i < types.length; i++) {
+      // parameter flag is left to 0 (signed): no codec encodes unsigned values, BigInteger being
+      // sent as DECIMAL
+      buf.setByte(FLAGS_OFFSET + 2 + 2 * i, types[i] != -1 ? types[i] : defaultTypes[i]);
+    }
+    // command buffer ownership is transferred to caller
+    ByteBuf out = buf;
+    buf = null;
+    return out;
+  }
+
+  @Override
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  @Override
+  public void resetSequencer() {
+    sequencer.reset();
+  }
+
+  /** Release command buffer if command has not been encoded. */
+  @Override
+  public void releaseEncodedBinds() {
+    if (buf != null) {
+      buf.release();
+      buf = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "BulkExecutePacket{statementId=" + statementId + ", rows=" + rows + '}';
+  }
+}
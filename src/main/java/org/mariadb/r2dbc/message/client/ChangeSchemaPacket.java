@@ -28,6 +28,7 @@ public final class ChangeSchemaPacket implements ClientMessage {
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
     ByteBuf buf = allocator.ioBuffer();
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x02);
     buf.writeCharSequence(this.schema, StandardCharsets.UTF_8);
     return buf;
@@ -22,8 +22,9 @@ public final class ClearPasswordPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return allocator.ioBuffer(0);
-    ByteBuf buf = allocator.ioBuffer(password.length() * 4);
+    if (password == null) return allocator.ioBuffer(HEADER_SIZE).writeZero(HEADER_SIZE);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + password.length() * 4);
+    buf.writeZero(HEADER_SIZE);
     buf.writeCharSequence(password, StandardCharsets.UTF_8);
     buf.writeByte(0);
     return buf;
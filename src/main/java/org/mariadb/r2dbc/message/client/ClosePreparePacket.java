@@ -23,6 +23,7 @@ public final class ClosePreparePacket implements ClientMessage {
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
     ByteBuf buf = allocator.ioBuffer();
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x19);
     buf.writeIntLE(statementId);
     return buf;
@@ -80,8 +80,9 @@ public final class Ed25519PasswordPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return allocator.ioBuffer(0);
-    ByteBuf buf = allocator.ioBuffer(64);
+    if (password == null) return allocator.ioBuffer(HEADER_SIZE).writeZero(HEADER_SIZE);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 64);
+    buf.writeZero(HEADER_SIZE);
     buf.writeBytes(ed25519SignWithPassword(password, seed));
     return buf;
   }
@@ -21,33 +21,58 @@ public final class ExecutePacket implements ClientMessage {
   private int statementId;
   private final int parameterCount;
   private final String sql;
+  private final boolean cursor;
   private final MessageSequence sequencer = new Sequencer((byte) 0xff);
   private ByteBuf savedBuf = null;
 
   public ExecutePacket(
       String sql, ServerPrepareResult prepareResult, List<BindEncodedValue> bindValues) {
+    this(sql, prepareResult, bindValues, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param sql sql command
+   * @param prepareResult prepare result, null when prepare is pipelined
+   * @param bindValues encoded parameters
+   * @param cursor ask server to open a read-only cursor, rows having then to be fetched using
+   *     COM_STMT_FETCH
+   */
+  public ExecutePacket(
+      String sql,
+      ServerPrepareResult prepareResult,
+      List<BindEncodedValue> bindValues,
+      boolean cursor) {
     this.sql = sql;
     this.bindValues = bindValues;
     this.statementId = prepareResult == null ? -1 : prepareResult.getStatementId();
     this.parameterCount = prepareResult == null ? bindValues.size() : prepareResult.getNumParams();
+    this.cursor = cursor;
   }
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
     if (savedBuf != null) return savedBuf;
-    ByteBuf buf = allocator.ioBuffer();
+    int nullCount = (parameterCount + 7) / 8;
+    int length = HEADER_SIZE + 10 + nullCount + 1 + 2 * parameterCount;
+    for (int i = 0; i < parameterCount; i++) {
+      length += bindValues.get(i).getLength();
+    }
+
+    // single allocation, parameters being written directly into command buffer
+    ByteBuf buf = allocator.ioBuffer(length);
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x17);
     buf.writeIntLE(statementId);
-    buf.writeByte(0x00); // NO CURSOR
+    buf.writeByte(cursor ? 0x01 : 0x00); // CURSOR_TYPE_READ_ONLY or NO CURSOR
     buf.writeIntLE(1); // Iteration pos
 
     // create null bitmap
     if (parameterCount > 0) {
-      int nullCount = (parameterCount + 7) / 8;
-
       byte[] nullBitsBuffer = new byte[nullCount];
       for (int i = 0; i < parameterCount; i++) {
-        if (bindValues.get(i).getValue() == null) {
+        if (bindValues.get(i).isNull() && !bindValues.get(i).isLongData()) {
           nullBitsBuffer[i / 8] |= (1 << (i % 8));
         }
       }
@@ -61,10 +86,7 @@ public final class ExecutePacket implements ClientMessage {
     }
 
     for (int i = 0; i < parameterCount; i++) {
-      ByteBuf param = bindValues.get(i).getValue();
-      if (param != null) {
-        buf.writeBytes(param);
-      }
+      bindValues.get(i).write(buf);
     }
 
     return buf;
@@ -86,17 +108,14 @@ public final class ExecutePacket implements ClientMessage {
   }
 
   public void save(ByteBuf buf, int initialReaderIndex) {
-    savedBuf = buf.readerIndex(initialReaderIndex).retain();
+    savedBuf = buf.retainedDuplicate().readerIndex(initialReaderIndex);
   }
 
   public void forceStatementId(int statementId) {
     this.statementId = statementId;
     if (savedBuf != null) {
-      // replace byte at position 1 with new statement id
-      int writerIndex = this.savedBuf.writerIndex();
-      this.savedBuf.writerIndex(this.savedBuf.readerIndex() + 1);
-      this.savedBuf.writeIntLE(statementId);
-      this.savedBuf.writerIndex(writerIndex);
+      // replace bytes following command byte with new statement id
+      this.savedBuf.setIntLE(this.savedBuf.readerIndex() + HEADER_SIZE + 1, statementId);
     }
   }
 
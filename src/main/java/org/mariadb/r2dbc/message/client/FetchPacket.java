@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+
+/**
+ * COM_STMT_FETCH packet, fetching rows from a cursor opened by a COM_STMT_EXECUTE. See
+ * https://mariadb.com/kb/en/com_stmt_fetch/
+ */
+public final class FetchPacket implements ClientMessage {
+
+  private final int statementId;
+  private final int rows;
+
+  public FetchPacket(int statementId, int rows) {
+    this.statementId = statementId;
+    this.rows = rows;
+  }
+
+  @Override
+  public ByteBuf encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 9);
+    buf.writeZero(HEADER_SIZE);
+    buf.writeByte(0x1c);
+    buf.writeIntLE(statementId);
+    buf.writeIntLE(rows);
+    return buf;
+  }
+
+  @Override
+  public String toString() {
+    return "FetchPacket{statementId=" + statementId + ", rows=" + rows + '}';
+  }
+}
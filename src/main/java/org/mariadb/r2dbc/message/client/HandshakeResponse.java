@@ -76,7 +76,8 @@ public final class HandshakeResponse implements ClientMessage {
             initialHandshakePacket.getMajorServerVersion(),
             initialHandshakePacket.getMinorServerVersion());
 
-    ByteBuf buf = allocator.buffer(4096);
+    ByteBuf buf = allocator.buffer(HEADER_SIZE + 4096);
+    buf.writeZero(HEADER_SIZE);
 
     final byte[] authData;
     String authenticationPluginType = initialHandshakePacket.getAuthenticationPluginType();
@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+import org.mariadb.r2dbc.message.MessageSequence;
+import org.mariadb.r2dbc.message.server.Sequencer;
+
+/**
+ * COM_STMT_SEND_LONG_DATA packet, sending a chunk of a parameter value before execution. Server
+ * appends chunks to parameter value and doesn't send any response. See
+ * https://mariadb.com/kb/en/com_stmt_send_long_data/
+ */
+public final class LongDataPacket implements ClientMessage {
+
+  /** maximum size of chunks read from streamed parameters */
+  public static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+  private final int statementId;
+  private final int parameterId;
+  private final ByteBuf data;
+  private final MessageSequence sequencer = new Sequencer((byte) 0xff);
+
+  public LongDataPacket(int statementId, int parameterId, ByteBuf data) {
+    this.statementId = statementId;
+    this.parameterId = parameterId;
+    this.data = data;
+  }
+
+  @Override
+  public ByteBuf encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 7 + data.readableBytes());
+    buf.writeZero(HEADER_SIZE);
+    buf.writeByte(0x18);
+    buf.writeIntLE(statementId);
+    buf.writeShortLE(parameterId);
+    buf.writeBytes(data, data.readerIndex(), data.readableBytes());
+    return buf;
+  }
+
+  @Override
+  public MessageSequence getSequencer() {
+    return sequencer;
+  }
+
+  @Override
+  public void releaseEncodedBinds() {
+    data.release();
+  }
+
+  @Override
+  public String toString() {
+    return "LongDataPacket{statementId=" + statementId + ", parameterId=" + parameterId + '}';
+  }
+}
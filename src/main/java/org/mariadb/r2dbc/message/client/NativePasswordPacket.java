@@ -56,8 +56,9 @@ public final class NativePasswordPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return allocator.ioBuffer(0);
-    ByteBuf buf = allocator.ioBuffer(32);
+    if (password == null) return allocator.ioBuffer(HEADER_SIZE).writeZero(HEADER_SIZE);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 32);
+    buf.writeZero(HEADER_SIZE);
     buf.writeBytes(encrypt(password, seed));
     return buf;
   }
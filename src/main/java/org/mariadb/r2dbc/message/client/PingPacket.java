@@ -13,6 +13,7 @@ public final class PingPacket implements ClientMessage {
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
     ByteBuf buf = allocator.ioBuffer();
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x0e);
     return buf;
   }
@@ -14,16 +14,32 @@ import org.mariadb.r2dbc.util.Assert;
 
 public final class PreparePacket implements ClientMessage {
   private final String sql;
+  private final boolean cacheable;
   private final MessageSequence sequencer = new Sequencer((byte) 0xff);
 
   public PreparePacket(String sql) {
+    this(sql, true);
+  }
+
+  /**
+   * Prepare command.
+   *
+   * @param sql sql command
+   * @param cacheable if resulting prepared statement can be shared through prepare cache
+   */
+  public PreparePacket(String sql, boolean cacheable) {
     this.sql = Assert.requireNonNull(sql, "query must not be null");
+    this.cacheable = cacheable;
   }
 
   public String getSql() {
     return sql;
   }
 
+  public boolean isCacheable() {
+    return cacheable;
+  }
+
   public MessageSequence getSequencer() {
     return sequencer;
   }
@@ -34,7 +50,8 @@ public final class PreparePacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(this.sql.length() + 1);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + this.sql.length() + 1);
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x16);
     buf.writeCharSequence(this.sql, StandardCharsets.UTF_8);
     return buf;
@@ -24,7 +24,8 @@ public final class QueryPacket implements ClientMessage {
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator byteBufAllocator) {
     Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
-    ByteBuf out = byteBufAllocator.ioBuffer(this.sql.length() + 1);
+    ByteBuf out = byteBufAllocator.ioBuffer(HEADER_SIZE + this.sql.length() + 1);
+    out.writeZero(HEADER_SIZE);
     out.writeByte(0x03);
     out.writeCharSequence(this.sql, StandardCharsets.UTF_8);
     return out;
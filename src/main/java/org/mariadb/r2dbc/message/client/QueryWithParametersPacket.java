@@ -17,6 +17,8 @@ import org.mariadb.r2dbc.util.ClientPrepareResult;
 
 public final class QueryWithParametersPacket implements ClientMessage {
 
+  private static final byte[] NULL_VALUE = "null".getBytes(StandardCharsets.US_ASCII);
+
   private final ClientPrepareResult prepareResult;
   private final List<BindEncodedValue> bindValues;
   private final MessageSequence sequencer = new Sequencer((byte) 0xff);
@@ -44,32 +46,39 @@ public final class QueryWithParametersPacket implements ClientMessage {
               : " RETURNING " + String.join(", ", generatedColumns);
     }
 
-    ByteBuf out = byteBufAllocator.ioBuffer();
+    List<byte[]> queryParts = prepareResult.getQueryParts();
+    int length = HEADER_SIZE + 1;
+    for (byte[] part : queryParts) {
+      length += part.length;
+    }
+    for (int i = 0; i < prepareResult.getParamCount(); i++) {
+      BindEncodedValue param = bindValues.get(i);
+      length += param.isNull() ? 4 : param.getLength();
+    }
+    if (additionalReturningPart != null) length += additionalReturningPart.length();
+
+    // single allocation, parameters being written directly into command buffer
+    ByteBuf out = byteBufAllocator.ioBuffer(length);
+    out.writeZero(HEADER_SIZE);
     out.writeByte(0x03);
 
-    if (prepareResult.getParamCount() == 0) {
-      out.writeBytes(prepareResult.getQueryParts().get(0));
-      if (additionalReturningPart != null)
-        out.writeCharSequence(additionalReturningPart, StandardCharsets.UTF_8);
-    } else {
-      out.writeBytes(prepareResult.getQueryParts().get(0));
-      for (int i = 0; i < prepareResult.getParamCount(); i++) {
-        BindEncodedValue param = bindValues.get(i);
-        if (param.getValue() == null) {
-          out.writeBytes("null".getBytes(StandardCharsets.US_ASCII));
-        } else {
-          out.writeBytes(param.getValue());
-        }
-        out.writeBytes(prepareResult.getQueryParts().get(i + 1));
+    out.writeBytes(queryParts.get(0));
+    for (int i = 0; i < prepareResult.getParamCount(); i++) {
+      BindEncodedValue param = bindValues.get(i);
+      if (param.isNull()) {
+        out.writeBytes(NULL_VALUE);
+      } else {
+        param.write(out);
       }
-      if (additionalReturningPart != null)
-        out.writeCharSequence(additionalReturningPart, StandardCharsets.UTF_8);
+      out.writeBytes(queryParts.get(i + 1));
     }
+    if (additionalReturningPart != null)
+      out.writeCharSequence(additionalReturningPart, StandardCharsets.UTF_8);
     return out;
   }
 
   public void save(ByteBuf buf, int initialReaderIndex) {
-    savedBuf = buf.readerIndex(initialReaderIndex).retain();
+    savedBuf = buf.retainedDuplicate().readerIndex(initialReaderIndex);
   }
 
   @Override
@@ -13,7 +13,8 @@ public final class QuitPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(1);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 1);
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x01);
     return buf;
   }
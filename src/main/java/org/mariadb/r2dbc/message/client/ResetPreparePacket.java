@@ -0,0 +1,31 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.mariadb.r2dbc.message.ClientMessage;
+import org.mariadb.r2dbc.message.Context;
+
+/**
+ * COM_STMT_RESET packet, discarding long data sent for a prepared statement. See
+ * https://mariadb.com/kb/en/com_stmt_reset/
+ */
+public final class ResetPreparePacket implements ClientMessage {
+
+  private final int statementId;
+
+  public ResetPreparePacket(int statementId) {
+    this.statementId = statementId;
+  }
+
+  @Override
+  public ByteBuf encode(Context context, ByteBufAllocator allocator) {
+    ByteBuf buf = allocator.ioBuffer();
+    buf.writeZero(HEADER_SIZE);
+    buf.writeByte(0x1a);
+    buf.writeIntLE(statementId);
+    return buf;
+  }
+}
@@ -66,8 +66,9 @@ public final class Sha256PasswordPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    if (password == null) return allocator.ioBuffer(0);
-    ByteBuf buf = allocator.ioBuffer(256);
+    if (password == null) return allocator.ioBuffer(HEADER_SIZE).writeZero(HEADER_SIZE);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 256);
+    buf.writeZero(HEADER_SIZE);
     buf.writeBytes(encrypt(publicKey, password, seed));
     return buf;
   }
@@ -19,7 +19,8 @@ public final class Sha2PublicKeyRequestPacket implements ClientMessage {
 
   @Override
   public ByteBuf encode(Context context, ByteBufAllocator allocator) {
-    ByteBuf buf = allocator.ioBuffer(1);
+    ByteBuf buf = allocator.ioBuffer(HEADER_SIZE + 1);
+    buf.writeZero(HEADER_SIZE);
     buf.writeByte(0x02);
     return buf;
   }
@@ -29,7 +29,8 @@ public final class SslRequestPacket implements ClientMessage {
             initialHandshakePacket.getMajorServerVersion(),
             initialHandshakePacket.getMinorServerVersion());
 
-    ByteBuf buf = allocator.buffer(32, 32);
+    ByteBuf buf = allocator.buffer(HEADER_SIZE + 32, HEADER_SIZE + 32);
+    buf.writeZero(HEADER_SIZE);
 
     buf.writeIntLE((int) clientCapabilities);
     buf.writeIntLE(1024 * 1024 * 1024);
@@ -61,6 +61,9 @@ public final class AuthenticationFlow {
             state -> {
               if (State.COMPLETED == state) {
                 if (flow.authMoreDataPacket != null) flow.authMoreDataPacket.release();
+                if ((flow.clientCapabilities & Capabilities.COMPRESS) != 0) {
+                  flow.client.enableCompression();
+                }
                 flow.sink.complete();
               } else {
                 if (logger.isTraceEnabled()) {
@@ -107,6 +110,16 @@ public final class AuthenticationFlow {
       capabilities |= Capabilities.CONNECT_WITH_DB;
     }
 
+    if (configuration.useCompression()) {
+      capabilities |= Capabilities.COMPRESS;
+    }
+
+    if (configuration.useBulkStmts()) {
+      capabilities |=
+          Capabilities.MARIADB_CLIENT_STMT_BULK_OPERATIONS
+              | Capabilities.MARIADB_CLIENT_BULK_UNIT_RESULTS;
+    }
+
     return capabilities & serverCapabilities;
   }
 
@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.message.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+
+/**
+ * Global column definition cache, keyed by raw column definition packet bytes, permitting repeated
+ * executions of the same query to share identical {@link ColumnDefinitionPacket} instances.
+ *
+ * <p>Cache is direct-mapped and bounded: an entry just replaces the one having the same slot.
+ */
+final class ColumnDefinitionCache {
+
+  private static final int SIZE = 1024;
+  private static final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(SIZE);
+
+  private ColumnDefinitionCache() {}
+
+  static int hash(ByteBuf buf) {
+    int h = ByteBufUtil.hashCode(buf);
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Get cached column definition corresponding to buffer readable bytes.
+   *
+   * @param buf column definition packet
+   * @param hash buffer hash
+   * @param conf connection configuration
+   * @return cached column definition, or null if not cached
+   */
+  static ColumnDefinitionPacket get(ByteBuf buf, int hash, MariadbConnectionConfiguration conf) {
+    Entry entry = entries.get(hash & (SIZE - 1));
+    if (entry != null
+        && entry.hash == hash
+        && entry.conf == conf
+        && entry.raw.length == buf.readableBytes()) {
+      byte[] raw = entry.raw;
+      int idx = buf.readerIndex();
+      for (int i = 0; i < raw.length; i++) {
+        if (raw[i] != buf.getByte(idx + i)) return null;
+      }
+      return entry.column;
+    }
+    return null;
+  }
+
+  static void put(
+      byte[] raw, int hash, MariadbConnectionConfiguration conf, ColumnDefinitionPacket column) {
+    entries.lazySet(hash & (SIZE - 1), new Entry(raw, hash, conf, column));
+  }
+
+  private static final class Entry {
+    private final byte[] raw;
+    private final int hash;
+    private final MariadbConnectionConfiguration conf;
+    private final ColumnDefinitionPacket column;
+
+    private Entry(
+        byte[] raw, int hash, MariadbConnectionConfiguration conf, ColumnDefinitionPacket column) {
+      this.raw = raw;
+      this.hash = hash;
+      this.conf = conf;
+      this.column = column;
+    }
+  }
+}
@@ -68,6 +68,13 @@ public final class ColumnDefinitionPacket
   private final boolean ending;
   private final MariadbConnectionConfiguration conf;
 
+  // decoded strings, lazily initialized. Racy initialization is harmless, String being immutable
+  private String schema;
+  private String tableAlias;
+  private String table;
+  private String name;
+  private String column;
+
   private ColumnDefinitionPacket(
       byte[] meta,
       int charset,
@@ -124,6 +131,15 @@ public final class ColumnDefinitionPacket
       Context context,
       boolean ending,
       MariadbConnectionConfiguration conf) {
+    int hash = ColumnDefinitionCache.hash(buf);
+    ColumnDefinitionPacket cached = ColumnDefinitionCache.get(buf, hash, conf);
+    if (cached != null && cached.ending == ending) {
+      buf.skipBytes(buf.readableBytes());
+      return cached;
+    }
+
+    byte[] raw = new byte[buf.readableBytes()];
+    buf.getBytes(buf.readerIndex(), raw);
     byte[] meta = new byte[buf.readableBytes() - 12];
     buf.readBytes(meta);
     int charset = buf.readUnsignedShortLE();
@@ -131,8 +147,10 @@ public final class ColumnDefinitionPacket
     DataType dataType = DataType.fromServer(buf.readUnsignedByte(), charset);
     int flags = buf.readUnsignedShortLE();
     byte decimals = buf.readByte();
-    return new ColumnDefinitionPacket(
-        meta, charset, length, dataType, decimals, flags, ending, conf);
+    ColumnDefinitionPacket column =
+        new ColumnDefinitionPacket(meta, charset, length, dataType, decimals, flags, ending, conf);
+    ColumnDefinitionCache.put(raw, hash, conf, column);
+    return column;
   }
 
   public static ColumnDefinitionPacket fromGeneratedId(
@@ -153,24 +171,29 @@ public final class ColumnDefinitionPacket
   }
 
   public String getSchema() {
-    return this.getString(1);
+    if (schema == null) schema = this.getString(1);
+    return schema;
   }
 
   public String getTableAlias() {
-    return this.getString(2);
+    if (tableAlias == null) tableAlias = this.getString(2);
+    return tableAlias;
   }
 
   public String getTable() {
-    return this.getString(3);
+    if (table == null) table = this.getString(3);
+    return table;
   }
 
   @Override
   public String getName() {
-    return this.getString(4);
+    if (name == null) name = this.getString(4);
+    return name;
   }
 
   public String getColumn() {
-    return this.getString(5);
+    if (column == null) column = this.getString(5);
+    return column;
   }
 
   public int getCharset() {
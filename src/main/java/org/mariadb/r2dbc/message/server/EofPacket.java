@@ -35,12 +35,34 @@ public class EofPacket implements ServerMessage {
     short warningCount = buf.readShortLE();
     short serverStatus = buf.readShortLE();
     context.setServerStatus(serverStatus);
+    boolean ending =
+        resultSetEnd
+            ? (serverStatus & ServerStatus.MORE_RESULTS_EXISTS) == 0
+            // cursor opened: command ends, rows being fetched by COM_STMT_FETCH commands
+            : (serverStatus & ServerStatus.CURSOR_EXISTS) > 0;
+    return new EofPacket(sequencer, serverStatus, warningCount, resultSetEnd, ending);
+  }
+
+  /**
+   * Decode EOF ending a COM_STMT_FETCH response. Result-set ends when server indicates that cursor
+   * last row has been sent.
+   *
+   * @param sequencer sequencer
+   * @param buf current EOF buf
+   * @param context current context
+   * @return Eof packet
+   */
+  public static EofPacket decodeFetch(Sequencer sequencer, ByteBuf buf, Context context) {
+    buf.skipBytes(1);
+    short warningCount = buf.readShortLE();
+    short serverStatus = buf.readShortLE();
+    context.setServerStatus(serverStatus);
     return new EofPacket(
         sequencer,
         serverStatus,
         warningCount,
-        resultSetEnd,
-        resultSetEnd && (serverStatus & ServerStatus.MORE_RESULTS_EXISTS) == 0);
+        (serverStatus & ServerStatus.LAST_ROW_SENT) > 0,
+        true);
   }
 
   /**
@@ -4,23 +4,91 @@
 package org.mariadb.r2dbc.util;
 
 import io.netty.buffer.ByteBuf;
+import java.util.function.Consumer;
 import org.mariadb.r2dbc.codec.Codec;
 
 public class BindEncodedValue {
 
   private final Codec<?> codec;
   private final ByteBuf value;
+  private final Consumer<ByteBuf> writer;
+  private final int length;
+  private final boolean longData;
 
   public BindEncodedValue(Codec<?> codec, ByteBuf value) {
+    this(codec, value, false);
+  }
+
+  public BindEncodedValue(Codec<?> codec, ByteBuf value, boolean longData) {
     this.codec = codec;
     this.value = value;
+    this.writer = null;
+    this.length = value == null ? 0 : value.readableBytes();
+    this.longData = longData;
+  }
+
+  /**
+   * Constructor of a value written directly into command buffer.
+   *
+   * @param codec codec
+   * @param length encoded length, or an estimation, only used as a buffer sizing hint
+   * @param writer value writer
+   */
+  public BindEncodedValue(Codec<?> codec, int length, Consumer<ByteBuf> writer) {
+    this.codec = codec;
+    this.value = null;
+    this.writer = writer;
+    this.length = length;
+    this.longData = false;
   }
 
   public Codec<?> getCodec() {
     return codec;
   }
 
+  /**
+   * Encoded value buffer, null for NULL values and values written directly into command buffer.
+   *
+   * @return encoded value
+   */
   public ByteBuf getValue() {
     return value;
   }
+
+  public boolean isNull() {
+    return value == null && writer == null;
+  }
+
+  /**
+   * Encoded length, used as a hint to size command buffer. Values written directly into command
+   * buffer may write more bytes than this estimation, so command size must be checked on bytes
+   * actually written.
+   *
+   * @return encoded length, or an estimation for values written directly into command buffer
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Write value into command buffer.
+   *
+   * @param out command buffer
+   */
+  public void write(ByteBuf out) {
+    if (writer != null) {
+      writer.accept(out);
+    } else if (value != null) {
+      out.writeBytes(value, value.readerIndex(), value.readableBytes());
+    }
+  }
+
+  /**
+   * Indicate that value has already been sent using COM_STMT_SEND_LONG_DATA.
+   *
+   * @return true if value has been sent as long data
+   */
+  public boolean isLongData() {
+    return longData;
+  }
 }
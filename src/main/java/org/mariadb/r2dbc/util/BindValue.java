@@ -4,8 +4,12 @@
 package org.mariadb.r2dbc.util;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.mariadb.r2dbc.codec.Codec;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class BindValue {
@@ -13,10 +17,68 @@ public class BindValue {
   public static final Mono<? extends ByteBuf> NULL_VALUE = Mono.empty();
   private final Codec<?> codec;
   private final Mono<? extends ByteBuf> value;
+  private final Supplier<? extends ByteBuf> encoder;
+  private final Consumer<ByteBuf> writer;
+  private final int length;
+  private final Flux<? extends ByteBuf> longData;
 
   public BindValue(Codec<?> codec, Mono<? extends ByteBuf> value) {
+    this(codec, value, null);
+  }
+
+  /**
+   * Constructor of a value that can be streamed.
+   *
+   * @param codec codec
+   * @param value encoded value
+   * @param longData raw value chunks, to be sent using COM_STMT_SEND_LONG_DATA when executing a
+   *     server prepared statement, as an alternative to encoded value
+   */
+  public BindValue(
+      Codec<?> codec, Mono<? extends ByteBuf> value, Flux<? extends ByteBuf> longData) {
     this.codec = codec;
     this.value = Assert.requireNonNull(value, "value must not be null");
+    this.encoder = null;
+    this.writer = null;
+    this.length = 0;
+    this.longData = longData;
+  }
+
+  /**
+   * Constructor of a value encoded synchronously when executing command, without any reactive
+   * wrapping.
+   *
+   * @param codec codec
+   * @param encoder value encoder
+   * @param longData raw value chunks, to be sent using COM_STMT_SEND_LONG_DATA when executing a
+   *     server prepared statement, as an alternative to encoded value. Can be null
+   */
+  public BindValue(
+      Codec<?> codec, Supplier<? extends ByteBuf> encoder, Flux<? extends ByteBuf> longData) {
+    this.codec = codec;
+    this.value = null;
+    this.encoder = Assert.requireNonNull(encoder, "encoder must not be null");
+    this.writer = null;
+    this.length = 0;
+    this.longData = longData;
+  }
+
+  /**
+   * Constructor of a value written directly into command buffer when sending command, without
+   * intermediate buffer.
+   *
+   * @param codec codec
+   * @param length encoded length, or an estimation when not known in advance, used to size command
+   *     buffer
+   * @param writer value writer
+   */
+  public BindValue(Codec<?> codec, int length, Consumer<ByteBuf> writer) {
+    this.codec = codec;
+    this.value = null;
+    this.encoder = null;
+    this.writer = Assert.requireNonNull(writer, "writer must not be null");
+    this.length = length;
+    this.longData = null;
   }
 
   @Override
@@ -28,12 +90,15 @@ public class BindValue {
       return false;
     }
     BindValue that = (BindValue) o;
-    return Objects.equals(this.codec, that.codec) && Objects.equals(this.value, that.value);
+    return Objects.equals(this.codec, that.codec)
+        && Objects.equals(this.value, that.value)
+        && Objects.equals(this.encoder, that.encoder)
+        && Objects.equals(this.writer, that.writer);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.codec, this.value);
+    return Objects.hash(this.codec, this.value, this.encoder, this.writer);
   }
 
   @Override
@@ -50,6 +115,41 @@ public class BindValue {
   }
 
   public Mono<? extends ByteBuf> getValue() {
-    return this.value;
+    if (this.value != null) return this.value;
+    if (this.encoder != null) return Mono.fromSupplier(this.encoder);
+    return Mono.fromSupplier(
+        () -> {
+          ByteBuf buf = Unpooled.buffer(this.length);
+          this.writer.accept(buf);
+          return buf;
+        });
+  }
+
+  /**
+   * Indicate that value can be encoded synchronously using {@link #encode()}.
+   *
+   * @return true if value doesn't depend on an asynchronous source
+   */
+  public boolean isSynchronous() {
+    return this.encoder != null || this.writer != null;
+  }
+
+  /**
+   * Encode synchronous value. Values having a writer are not encoded there, but only when
+   * writing command.
+   *
+   * @return encoded value
+   */
+  public BindEncodedValue encode() {
+    if (this.writer != null) return new BindEncodedValue(this.codec, this.length, this.writer);
+    return new BindEncodedValue(this.codec, this.encoder.get());
+  }
+
+  public boolean isLongData() {
+    return this.longData != null;
+  }
+
+  public Flux<? extends ByteBuf> getLongData() {
+    return this.longData;
   }
 }
@@ -11,13 +11,17 @@ import reactor.util.Loggers;
 
 public final class Binding {
   private static final Logger LOGGER = Loggers.getLogger(Binding.class);
+  private static final BindValue[] EMPTY = new BindValue[0];
 
   private final int expectedSize;
-  private final Map<Integer, BindValue> binds;
+  // parameters, indexed by position, with a bitset of positions that are set
+  private final BindValue[] binds;
+  private final BitSet bindSet;
 
   public Binding(int expectedSize) {
     this.expectedSize = expectedSize;
-    this.binds = new HashMap<>();
+    this.binds = expectedSize > 0 ? new BindValue[expectedSize] : EMPTY;
+    this.bindSet = new BitSet(Math.max(expectedSize, 0));
   }
 
   public Binding add(int index, BindValue parameter) {
@@ -29,26 +33,25 @@ public final class Binding {
               "Binding index %d when only %d parameters are expected", index, this.expectedSize));
     }
 
-    this.binds.put(index, parameter);
+    this.binds[index] = parameter;
+    this.bindSet.set(index);
 
     return this;
   }
 
   public void clear() {
-    this.binds
-        .entrySet()
-        .forEach(
-            entry -> {
-              Flux.from(entry.getValue().getValue())
-                  .doOnNext(ReferenceCountUtil::release)
-                  .subscribe(
-                      ignore -> {},
-                      err ->
-                          LOGGER.warn(
-                              String.format("Cannot release parameter %s", entry.getValue()), err));
-            });
-
-    this.binds.clear();
+    for (int i = this.bindSet.nextSetBit(0); i >= 0; i = this.bindSet.nextSetBit(i + 1)) {
+      BindValue value = this.binds[i];
+      this.binds[i] = null;
+      // synchronous values are only encoded when executing, there is nothing to release
+      if (value.isSynchronous()) continue;
+      Flux.from(value.getValue())
+          .doOnNext(ReferenceCountUtil::release)
+          .subscribe(
+              ignore -> {},
+              err -> LOGGER.warn(String.format("Cannot release parameter %s", value), err));
+    }
+    this.bindSet.clear();
   }
 
   @Override
@@ -60,48 +63,81 @@ public final class Binding {
       return false;
     }
     Binding that = (Binding) o;
-    return Objects.equals(this.binds, that.binds);
+    return Arrays.equals(this.binds, that.binds);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(this.binds);
+    return Arrays.hashCode(this.binds);
   }
 
   public boolean isEmpty() {
-    return this.binds.isEmpty();
+    return this.bindSet.isEmpty();
   }
 
   public int size() {
-    return this.binds.size();
+    return this.bindSet.cardinality();
+  }
+
+  /**
+   * Indicate if some parameters can be streamed using COM_STMT_SEND_LONG_DATA.
+   *
+   * @return true if some parameter is a long data value
+   */
+  public boolean hasLongData() {
+    for (BindValue value : this.binds) {
+      if (value != null && value.isLongData()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Indicate if all parameters can be encoded synchronously, without waiting for an asynchronous
+   * source like Blob, Clob or InputStream.
+   *
+   * @return true if all parameters are null or synchronous values
+   */
+  public boolean isSynchronous() {
+    for (BindValue value : this.binds) {
+      if (value != null && !value.isNull() && !value.isSynchronous()) return false;
+    }
+    return true;
   }
 
   @Override
   public String toString() {
-    return "Binding{binds=" + this.binds + '}';
+    StringJoiner joiner = new StringJoiner(", ", "{", "}");
+    for (int i = this.bindSet.nextSetBit(0); i >= 0; i = this.bindSet.nextSetBit(i + 1)) {
+      joiner.add(i + "=" + this.binds[i]);
+    }
+    return "Binding{binds=" + joiner + '}';
   }
 
   public void validate(int expectedSize) {
     // valid parameters
-    for (int i = 0; i < expectedSize; i++) {
-      if (binds.get(i) == null) {
-        throw new IllegalStateException(String.format("Parameter at position %d is not set", i));
-      }
+    int missing = this.bindSet.nextClearBit(0);
+    if (missing < expectedSize) {
+      throw new IllegalStateException(
+          String.format("Parameter at position %d is not set", missing));
     }
   }
 
+  /**
+   * Return parameters, in position order. Returned list is a copy, not affected by binding being
+   * cleared while parameters are lazily encoded.
+   *
+   * @param paramNumber parameter number
+   * @return parameter list
+   */
   public List<BindValue> getBindResultParameters(int paramNumber) {
-    if (this.binds.isEmpty() && paramNumber == 0) {
+    if (paramNumber == 0) {
       return Collections.emptyList();
     }
-    List<BindValue> result = new ArrayList<>(paramNumber);
-    for (int i = 0; i < paramNumber; i++) {
-      BindValue parameter = this.binds.get(i);
-      if (parameter == null) {
-        throw new IllegalStateException(String.format("No parameter specified for index %d", i));
-      }
-      result.add(parameter);
+    int missing = this.bindSet.nextClearBit(0);
+    if (missing < paramNumber) {
+      throw new IllegalStateException(
+          String.format("No parameter specified for index %d", missing));
     }
-    return result;
+    return Arrays.asList(Arrays.copyOf(this.binds, paramNumber));
   }
 }
@@ -5,6 +5,7 @@ package org.mariadb.r2dbc.util;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.util.ByteProcessor;
@@ -64,6 +65,17 @@ public final class BufferUtils {
   public static String readLengthEncodedString(ByteBuf buf) {
     int length = (int) readLengthEncodedInt(buf);
     if (length == -1) return null;
+    return readUtf8(buf, length);
+  }
+
+  /**
+   * Read UTF-8 string of indicated length.
+   *
+   * @param buf buffer
+   * @param length number of bytes to read
+   * @return string value
+   */
+  public static String readUtf8(ByteBuf buf, int length) {
     return buf.readCharSequence(length, StandardCharsets.UTF_8).toString();
   }
 
@@ -100,30 +112,80 @@ public final class BufferUtils {
     };
   }
 
-  public static void writeLengthEncode(String val, ByteBuf buf) {
-    byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
-    buf.writeBytes(encodeLength(bytes.length));
-    buf.writeBytes(bytes);
+  /**
+   * Write length encoded integer directly into buffer.
+   *
+   * @param buf buffer
+   * @param length length
+   */
+  public static void writeLength(ByteBuf buf, long length) {
+    if (length < 251) {
+      buf.writeByte((int) length);
+    } else if (length < 65536) {
+      buf.writeByte(0xfc);
+      buf.writeShortLE((int) length);
+    } else if (length < 16777216) {
+      buf.writeByte(0xfd);
+      buf.writeMediumLE((int) length);
+    } else {
+      buf.writeByte(0xfe);
+      buf.writeLongLE(length);
+    }
   }
 
-  public static ByteBuf encodeByte(ByteBufAllocator allocator, int value) {
-    ByteBuf byteBuf = allocator.buffer();
-    byteBuf.writeByte(value);
-    return byteBuf;
+  /**
+   * Size of length encoded integer.
+   *
+   * @param length length
+   * @return number of bytes needed to encode length
+   */
+  public static int lengthEncodedSize(long length) {
+    if (length < 251) return 1;
+    if (length < 65536) return 3;
+    if (length < 16777216) return 4;
+    return 9;
   }
 
-  public static ByteBuf encodeAscii(ByteBufAllocator allocator, String value) {
-    ByteBuf byteBuf = allocator.buffer();
-    byteBuf.writeCharSequence(value, StandardCharsets.US_ASCII);
-    return byteBuf;
+  public static void writeAscii(ByteBuf buf, String value) {
+    buf.writeCharSequence(value, StandardCharsets.US_ASCII);
   }
 
-  public static ByteBuf encodeLengthAscii(ByteBufAllocator allocator, String value) {
-    int len = value.length();
-    ByteBuf byteBuf = allocator.buffer(len + 9);
-    byteBuf.writeBytes(encodeLength(value.length()));
-    byteBuf.writeCharSequence(value, StandardCharsets.US_ASCII);
-    return byteBuf;
+  public static void writeLengthAscii(ByteBuf buf, String value) {
+    writeLength(buf, value.length());
+    buf.writeCharSequence(value, StandardCharsets.US_ASCII);
+  }
+
+  public static void writeLengthUtf8(ByteBuf buf, String value) {
+    writeLengthUtf8(buf, value, ByteBufUtil.utf8Bytes(value));
+  }
+
+  /**
+   * Write length encoded string, UTF-8 length being already known.
+   *
+   * @param buf buffer
+   * @param value string
+   * @param utf8Length UTF-8 encoded length of value
+   */
+  public static void writeLengthUtf8(ByteBuf buf, String value, int utf8Length) {
+    writeLength(buf, utf8Length);
+    ByteBufUtil.reserveAndWriteUtf8(buf, value, utf8Length);
+  }
+
+  public static void writeLengthBytes(ByteBuf buf, byte[] value) {
+    writeLength(buf, value.length);
+    buf.writeBytes(value);
+  }
+
+  public static void writeEscapedBytes(ByteBuf buf, byte[] prefix, byte[] value, Context context) {
+    buf.writeBytes(prefix);
+    escapedBytes(buf, value, value.length, context);
+    buf.writeByte('\'');
+  }
+
+  public static void writeLengthEncode(String val, ByteBuf buf) {
+    byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
+    buf.writeBytes(encodeLength(bytes.length));
+    buf.writeBytes(bytes);
   }
 
   public static ByteBuf encodeLengthUtf8(ByteBufAllocator allocator, String value) {
@@ -134,13 +196,6 @@ public final class BufferUtils {
     return byteBuf;
   }
 
-  public static ByteBuf encodeLengthBytes(ByteBufAllocator allocator, byte[] value) {
-    CompositeByteBuf byteBuf = allocator.compositeBuffer();
-    byteBuf.addComponent(true, Unpooled.wrappedBuffer(encodeLength(value.length)));
-    byteBuf.addComponent(true, Unpooled.wrappedBuffer(value));
-    return byteBuf;
-  }
-
   public static ByteBuf encodeEscapedBuffer(
       ByteBufAllocator allocator, ByteBuf value, Context context) {
     ByteBuf buf = allocator.buffer(value.readableBytes() * 2);
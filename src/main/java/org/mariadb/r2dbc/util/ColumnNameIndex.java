@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.util;
+
+import java.util.*;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+
+/**
+ * Case-insensitive column name to index mapping. Built once per result-set metadata and shared by
+ * all rows and metadata objects of this result-set, so name based access doesn't scan columns.
+ */
+public final class ColumnNameIndex {
+
+  private final List<ColumnDefinitionPacket> metadataList;
+  private volatile Map<String, Integer> indexes;
+
+  public ColumnNameIndex(List<ColumnDefinitionPacket> metadataList) {
+    this.metadataList = metadataList;
+  }
+
+  /**
+   * Get index of first column with corresponding name, ignoring case.
+   *
+   * @param name column name
+   * @return column index, -1 if no column has this name
+   */
+  public int indexOf(String name) {
+    Integer index = indexes().get(name.toLowerCase(Locale.ROOT));
+    if (index != null) return index;
+
+    // lower case mapping differs from equalsIgnoreCase for some characters
+    for (int i = 0; i < metadataList.size(); i++) {
+      if (metadataList.get(i).getName().equalsIgnoreCase(name)) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Column names, in column order.
+   *
+   * @return column names
+   */
+  public List<String> names() {
+    List<String> names = new ArrayList<>(metadataList.size());
+    for (ColumnDefinitionPacket columnDef : metadataList) {
+      names.add(columnDef.getName());
+    }
+    return names;
+  }
+
+  private Map<String, Integer> indexes() {
+    Map<String, Integer> map = indexes;
+    if (map == null) {
+      map = new HashMap<>(metadataList.size() * 2);
+      for (int i = 0; i < metadataList.size(); i++) {
+        map.putIfAbsent(metadataList.get(i).getName().toLowerCase(Locale.ROOT), i);
+      }
+      indexes = map;
+    }
+    return map;
+  }
+}
@@ -45,4 +45,7 @@ public class Capabilities {
 
   // permit skipping metadata
   public static final long MARIADB_CLIENT_CACHE_METADATA = 1L << 36;
+
+  /** permit COM_STMT_BULK commands to return a result per parameter set (since 11.5) */
+  public static final long MARIADB_CLIENT_BULK_UNIT_RESULTS = 1L << 37;
 }
@@ -4,7 +4,9 @@
 package org.mariadb.r2dbc.integration;
 
 import java.math.BigInteger;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
@@ -12,6 +14,9 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.TestConfiguration;
 import org.mariadb.r2dbc.api.MariadbConnection;
 import org.mariadb.r2dbc.api.MariadbConnectionMetadata;
 import org.mariadb.r2dbc.api.MariadbResult;
@@ -53,6 +58,50 @@ public class BigResultSetTest extends BaseConnectionTest {
         .verifyComplete();
   }
 
+  @Test
+  void slowConsumer() throws Exception {
+    MariadbConnectionMetadata meta = sharedConn.getMetadata();
+    // sequence table requirement
+    Assumptions.assumeTrue(meta.isMariaDBServer() && minVersion(10, 1, 0));
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .receiveWindowSize(100_000)
+            .maxBufferedBytes(64 * 1024)
+            .build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      // consumer slower than network: socket reading follows consumer demand instead of buffering
+      // rows
+      AtomicLong maxBuffered = new AtomicLong();
+      connection
+          .createStatement("SELECT REPEAT('a', 1000) FROM seq_1_to_20000")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, String.class)))
+          .limitRate(10)
+          .delayElements(Duration.ofNanos(10_000))
+          .doOnNext(s -> maxBuffered.accumulateAndGet(connection.getBufferedBytes(), Math::max))
+          .as(StepVerifier::create)
+          .expectNextCount(20000)
+          .verifyComplete();
+      // buffered rows never exceed limit, plus one packet
+      Assertions.assertTrue(
+          maxBuffered.get() <= 64 * 1024 + 1024, "max buffered bytes:" + maxBuffered.get());
+      Assertions.assertEquals(0, connection.getBufferedBytes());
+
+      // connection is still usable
+      connection
+          .createStatement("SELECT 1")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext(1)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
   @Test
   void multipleFluxSubscription() {
     MariadbConnectionMetadata meta = sharedConn.getMetadata();
@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.integration;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.TestConfiguration;
+import org.mariadb.r2dbc.api.MariadbConnection;
+import reactor.test.StepVerifier;
+
+public class CompressionTest extends BaseConnectionTest {
+
+  @BeforeAll
+  public static void before2() {
+    after2();
+    sharedConn
+        .createStatement("CREATE TABLE compressionTest(id int, val LONGTEXT)")
+        .execute()
+        .blockLast();
+  }
+
+  @AfterAll
+  public static void after2() {
+    sharedConn.createStatement("DROP TABLE IF EXISTS compressionTest").execute().blockLast();
+  }
+
+  @Test
+  void compressedExchanges() throws Exception {
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder.clone().useCompression(true).build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      // small packets are sent uncompressed
+      connection
+          .createStatement("SELECT 1")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext(1)
+          .verifyComplete();
+
+      char[] arr = new char[100_000];
+      Arrays.fill(arr, 'a');
+      String longVal = new String(arr);
+      connection
+          .createStatement("INSERT INTO compressionTest VALUES (?, ?)")
+          .bind(0, 1)
+          .bind(1, longVal)
+          .execute()
+          .flatMap(r -> r.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNext(1)
+          .verifyComplete();
+
+      connection
+          .createStatement("SELECT val FROM compressionTest WHERE id = 1")
+          .execute()
+          .flatMap(r -> r.map((row, metadata) -> row.get(0, String.class)))
+          .as(StepVerifier::create)
+          .expectNext(longVal)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+}
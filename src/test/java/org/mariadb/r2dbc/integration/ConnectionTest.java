@@ -236,6 +236,94 @@ public class ConnectionTest extends BaseConnectionTest {
     }
   }
 
+  @Test
+  void pipelineDepth() throws Exception {
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .maxPipelineDepth(2)
+            .maxPendingCommands(1000)
+            .build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      // commands exceeding pipeline depth wait for in-flight commands to complete
+      Flux.range(0, 500)
+          .flatMap(
+              i ->
+                  connection
+                      .createStatement("SELECT " + i)
+                      .execute()
+                      .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class))),
+              500)
+          .reduce(0, Integer::sum)
+          .as(StepVerifier::create)
+          .expectNext(499 * 500 / 2)
+          .verifyComplete();
+      assertEquals(0, connection.getPendingCommandCount());
+
+      // commands exceeding pending queue are rejected
+      MariadbConnectionConfiguration conf2 =
+          TestConfiguration.defaultBuilder
+              .clone()
+              .maxPipelineDepth(1)
+              .maxPendingCommands(1)
+              .build();
+      MariadbConnection connection2 = new MariadbConnectionFactory(conf2).create().block();
+      try {
+        Flux.range(0, 10)
+            .flatMap(
+                i ->
+                    connection2
+                        .createStatement("SELECT SLEEP(0.1)")
+                        .execute()
+                        .flatMap(r -> r.getRowsUpdated()),
+                10)
+            .as(StepVerifier::create)
+            .expectErrorMatches(
+                t ->
+                    t instanceof R2dbcTransientResourceException
+                        && t.getMessage().contains("Pending command queue limit reached"))
+            .verify();
+      } finally {
+        connection2.close().block();
+      }
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void pipelineDepthPrepareClose() throws Exception {
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .prepareCacheSize(2)
+            .maxPipelineDepth(1)
+            .maxPendingCommands(1000)
+            .build();
+    MariadbConnection connection = new MariadbConnectionFactory(conf).create().block();
+    try {
+      // evicted prepared statements are closed behind commands already pending
+      Flux.range(0, 100)
+          .flatMap(
+              i ->
+                  connection
+                      .createStatement("SELECT ? + " + (i % 10))
+                      .bind(0, i)
+                      .execute()
+                      .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class))),
+              100)
+          .reduce(0, Integer::sum)
+          .as(StepVerifier::create)
+          .expectNext(99 * 100 / 2 + 45 * 10)
+          .verifyComplete();
+      assertEquals(0, connection.getPendingCommandCount());
+    } finally {
+      connection.close().block();
+    }
+  }
+
   @Test
   void connectTimeout() throws Exception {
     MariadbConnectionConfiguration conf =
@@ -16,6 +16,7 @@ import org.mariadb.r2dbc.api.MariadbConnection;
 import org.mariadb.r2dbc.api.MariadbStatement;
 import org.mariadb.r2dbc.util.PrepareCache;
 import org.mariadb.r2dbc.util.ServerPrepareResult;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
 public class PrepareResultSetTest extends BaseConnectionTest {
@@ -292,6 +293,118 @@ public class PrepareResultSetTest extends BaseConnectionTest {
     }
   }
 
+  @Test
+  void cursorFetch() {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+
+    // rows fetched by batch of 100 rows
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .fetchSize(100)
+        .bind(0, 50)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .reduce(0, (acc, value) -> value == acc + 51 ? acc + 1 : -1)
+        .as(StepVerifier::create)
+        .expectNext(950)
+        .verifyComplete();
+
+    // no parameter, batch size not being a divisor of row number
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000")
+        .fetchSize(33)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .expectNextCount(1000)
+        .verifyComplete();
+
+    // empty result-set
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .fetchSize(100)
+        .bind(0, 5000)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .verifyComplete();
+
+    // row count
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .fetchSize(100)
+        .bind(0, 500)
+        .execute()
+        .flatMap(r -> r.getRowsUpdated())
+        .as(StepVerifier::create)
+        .expectNext(500)
+        .verifyComplete();
+
+    // cancellation closes cursor, statement being reusable
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .fetchSize(10)
+        .bind(0, 0)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .take(15)
+        .as(StepVerifier::create)
+        .expectNextCount(15)
+        .verifyComplete();
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .bind(0, 990)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .expectNextCount(10)
+        .verifyComplete();
+  }
+
+  @Test
+  void cursorFetchConcurrent() {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+
+    // cursors of concurrent executions of the same command don't interfere
+    Flux<Integer> first =
+        sharedConnPrepare
+            .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+            .fetchSize(10)
+            .bind(0, 0)
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)));
+    Flux<Integer> second =
+        sharedConnPrepare
+            .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+            .fetchSize(7)
+            .bind(0, 500)
+            .execute()
+            .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)));
+    // first execution is cancelled once second completes
+    Flux.zip(first, second, (a, b) -> b - a)
+        .all(diff -> diff == 500)
+        .as(StepVerifier::create)
+        .expectNext(true)
+        .verifyComplete();
+    sharedConnPrepare
+        .createStatement("SELECT seq FROM seq_1_to_1000 WHERE seq > ?")
+        .bind(0, 990)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+        .as(StepVerifier::create)
+        .expectNextCount(10)
+        .verifyComplete();
+  }
+
+  @Test
+  void fetchSizeNegative() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> sharedConnPrepare.createStatement("SELECT 1").fetchSize(-1));
+  }
+
   @Test
   public void returning() {
     Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 5, 1));
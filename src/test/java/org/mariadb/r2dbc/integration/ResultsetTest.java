@@ -5,10 +5,13 @@ package org.mariadb.r2dbc.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.r2dbc.spi.Result;
 import java.math.BigInteger;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.*;
 import org.mariadb.r2dbc.BaseConnectionTest;
 import org.mariadb.r2dbc.api.MariadbConnection;
@@ -275,6 +278,97 @@ public class ResultsetTest extends BaseConnectionTest {
     skippingRes(sharedConnPrepare, longText, mediumText, smallIntText);
   }
 
+  @Test
+  void mapChunks() {
+    mapChunks(sharedConn);
+  }
+
+  @Test
+  void mapChunksPrepare() {
+    mapChunks(sharedConnPrepare);
+  }
+
+  private void mapChunks(MariadbConnection con) {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+    AtomicLong sum = new AtomicLong();
+    AtomicInteger nulls = new AtomicInteger();
+    con.createStatement(
+            "SELECT CAST(seq AS SIGNED), IF(seq % 3 = 0, NULL, seq / 2e0), CONCAT('v', seq)"
+                + " FROM seq_1_to_1000 WHERE 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(
+            r ->
+                r.mapChunks(
+                    300,
+                    chunk -> {
+                      long[] ids = chunk.getLongs(0);
+                      double[] halves = chunk.getDoubles(1);
+                      assertEquals(chunk.size(), ids.length);
+                      assertEquals(chunk.size(), halves.length);
+                      for (int i = 0; i < chunk.size(); i++) {
+                        sum.addAndGet(ids[i]);
+                        if (chunk.isNull(i, 1)) {
+                          nulls.incrementAndGet();
+                          Assertions.assertNull(chunk.get(i, 1));
+                        } else {
+                          assertEquals(ids[i] / 2d, halves[i]);
+                        }
+                        assertEquals("v" + ids[i], chunk.get(i, 2));
+                      }
+                      assertEquals(chunk.size() / 3, chunk.getNulls(1).cardinality());
+                      Assertions.assertThrows(
+                          IllegalArgumentException.class, () -> chunk.getLongs(2));
+                      return chunk.size();
+                    }))
+        .as(StepVerifier::create)
+        .expectNext(300, 300, 300, 100)
+        .verifyComplete();
+    assertEquals(500500L, sum.get());
+    assertEquals(333, nulls.get());
+  }
+
+  @Test
+  void mapChunksFilter() {
+    mapChunksFilter(sharedConn);
+  }
+
+  @Test
+  void mapChunksFilterPrepare() {
+    mapChunksFilter(sharedConnPrepare);
+  }
+
+  private void mapChunksFilter(MariadbConnection con) {
+    // sequence table requirement
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 1, 0));
+    AtomicLong sum = new AtomicLong();
+    con.createStatement("SELECT CAST(seq AS SIGNED) FROM seq_1_to_1000 WHERE 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(
+            r ->
+                r.filter(
+                        segment ->
+                            segment instanceof Result.RowSegment
+                                && ((Result.RowSegment) segment).row().get(0, Long.class) % 2
+                                    == 0)
+                    .mapChunks(
+                        300,
+                        chunk -> {
+                          long[] ids = chunk.getLongs(0);
+                          for (int i = 0; i < chunk.size(); i++) {
+                            assertEquals(0, ids[i] % 2);
+                            sum.addAndGet(ids[i]);
+                          }
+                          return chunk.size();
+                        }))
+        .as(StepVerifier::create)
+        .expectNext(300, 200)
+        .verifyComplete();
+    assertEquals(250500L, sum.get());
+  }
+
   private void skippingRes(
       MariadbConnection con, String longText, String mediumText, String smallIntText) {
     con.createStatement("TRUNCATE prepare3").execute().blockLast();
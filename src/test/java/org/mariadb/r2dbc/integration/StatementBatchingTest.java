@@ -3,9 +3,17 @@
 
 package org.mariadb.r2dbc.integration;
 
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.mariadb.r2dbc.BaseConnectionTest;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.MariadbConnectionFactory;
+import org.mariadb.r2dbc.TestConfiguration;
 import org.mariadb.r2dbc.api.MariadbConnection;
+import org.mariadb.r2dbc.api.MariadbStatement;
 import reactor.test.StepVerifier;
 
 public class StatementBatchingTest extends BaseConnectionTest {
@@ -80,4 +88,189 @@ public class StatementBatchingTest extends BaseConnectionTest {
         .expectNext("test1", "test2", "test1")
         .verifyComplete();
   }
+
+  @Test
+  void pipelinedBatch() {
+    pipelinedBatch(sharedConn);
+  }
+
+  @Test
+  void pipelinedBatchPrepare() {
+    pipelinedBatch(sharedConnPrepare);
+  }
+
+  void pipelinedBatch(MariadbConnection connection) {
+    connection
+        .createStatement("CREATE TEMPORARY TABLE pipelinedBatch (id int, test varchar(10))")
+        .execute()
+        .blockLast();
+
+    MariadbStatement insert =
+        connection.createStatement("INSERT INTO pipelinedBatch values (?, ?)");
+    for (int i = 0; i < 500; i++) {
+      insert.bind(0, i).bind(1, "test" + i).add();
+    }
+    insert.bind(0, 500).bind(1, "test500");
+    insert
+        .execute()
+        .flatMap(r -> r.getRowsUpdated())
+        .as(StepVerifier::create)
+        .expectNextCount(501)
+        .verifyComplete();
+
+    // results are emitted in binding order
+    connection
+        .createStatement("SELECT test FROM pipelinedBatch WHERE id = ?")
+        .bind(0, 10)
+        .add()
+        .bind(0, 2)
+        .add()
+        .bind(0, 499)
+        .add()
+        .bind(0, 0)
+        .execute()
+        .flatMapSequential(r -> r.map((row, metadata) -> row.get(0, String.class)))
+        .as(StepVerifier::create)
+        .expectNext("test10", "test2", "test499", "test0")
+        .verifyComplete();
+  }
+
+  @Test
+  void bulkStatement() {
+    MariadbConnection connection = bulkConnection();
+    try {
+      connection
+          .createStatement("CREATE TEMPORARY TABLE bulkStatement (id int, test varchar(10))")
+          .execute()
+          .blockLast();
+
+      MariadbStatement stmt = connection.createStatement("INSERT INTO bulkStatement values (?, ?)");
+      for (int i = 0; i < 1000; i++) {
+        stmt.bind(0, i);
+        if (i % 10 == 0) {
+          stmt.bindNull(1, String.class);
+        } else {
+          stmt.bind(1, "test" + i);
+        }
+        stmt.add();
+      }
+      // type change requires another bulk command
+      stmt.bind(0, 1000L).bind(1, "test1000");
+
+      // one result per binding, whether bulk is used or not
+      List<Integer> updated =
+          stmt.execute().concatMap(r -> r.getRowsUpdated()).collectList().block();
+      Assertions.assertEquals(1001, updated.size());
+      updated.forEach(count -> Assertions.assertEquals(1, count));
+
+      connection
+          .createStatement("SELECT COUNT(*), COUNT(test), MAX(id) FROM bulkStatement")
+          .execute()
+          .flatMap(
+              r ->
+                  r.map(
+                      (row, metadata) ->
+                          row.get(0, Integer.class)
+                              + "-"
+                              + row.get(1, Integer.class)
+                              + "-"
+                              + row.get(2, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext("1001-901-1000")
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void bulkStatementUpdateCounts() {
+    MariadbConnection connection = bulkConnection();
+    try {
+      connection
+          .createStatement("CREATE TEMPORARY TABLE bulkUpdateCount (id int, test varchar(10))")
+          .execute()
+          .blockLast();
+      connection
+          .createStatement("INSERT INTO bulkUpdateCount SELECT seq, 'a' FROM seq_1_to_10")
+          .execute()
+          .blockLast();
+
+      // each binding has its own update count
+      MariadbStatement stmt =
+          connection.createStatement("UPDATE bulkUpdateCount SET test = ? WHERE id <= ?");
+      for (int i = 1; i <= 4; i++) {
+        stmt.bind(0, "test" + i).bind(1, i * 2).add();
+      }
+      stmt.bind(0, "none").bind(1, 0);
+      stmt.execute()
+          .concatMap(r -> r.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNext(2, 4, 6, 8, 0)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  @Test
+  void bulkStatementMultiByte() {
+    MariadbConnection connection = bulkConnection();
+    try {
+      int maxAllowedPacket =
+          connection
+              .createStatement("select @@max_allowed_packet")
+              .execute()
+              .flatMap(r -> r.map((row, metadata) -> row.get(0, Integer.class)))
+              .single()
+              .block();
+      Assumptions.assumeTrue(maxAllowedPacket <= 64 * 1024 * 1024);
+      connection
+          .createStatement(
+              "CREATE TEMPORARY TABLE bulkMultiByte (id int, t MEDIUMTEXT) CHARACTER SET utf8mb4")
+          .execute()
+          .blockLast();
+
+      // each value is a tenth of max_allowed_packet once encoded, but a third of it in chars:
+      // commands must be split on encoded size
+      char[] chars = new char[maxAllowedPacket / 30];
+      Arrays.fill(chars, '\u20ac');
+      String str = new String(chars);
+      MariadbStatement stmt = connection.createStatement("INSERT INTO bulkMultiByte values (?, ?)");
+      for (int i = 0; i < 24; i++) {
+        stmt.bind(0, i).bind(1, str).add();
+      }
+      stmt.bind(0, 24).bind(1, str);
+      stmt.execute()
+          .concatMap(r -> r.getRowsUpdated())
+          .as(StepVerifier::create)
+          .expectNextCount(25)
+          .verifyComplete();
+
+      connection
+          .createStatement("SELECT COUNT(*), MIN(CHAR_LENGTH(t)) FROM bulkMultiByte")
+          .execute()
+          .flatMap(
+              r ->
+                  r.map(
+                      (row, metadata) ->
+                          row.get(0, Integer.class) + "-" + row.get(1, Integer.class)))
+          .as(StepVerifier::create)
+          .expectNext("25-" + chars.length)
+          .verifyComplete();
+    } finally {
+      connection.close().block();
+    }
+  }
+
+  private MariadbConnection bulkConnection() {
+    Assumptions.assumeTrue(isMariaDBServer() && minVersion(10, 2, 0));
+    MariadbConnectionConfiguration conf =
+        TestConfiguration.defaultBuilder
+            .clone()
+            .useServerPrepStmts(true)
+            .useBulkStmts(true)
+            .build();
+    return new MariadbConnectionFactory(conf).create().block();
+  }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mariadb.r2dbc.BaseConnectionTest;
 import org.mariadb.r2dbc.api.MariadbConnection;
+import org.mariadb.r2dbc.api.MariadbRow;
 import org.mariadb.r2dbc.util.MariadbType;
 import reactor.test.StepVerifier;
 
@@ -86,6 +87,64 @@ public class IntParseTest extends BaseConnectionTest {
         .verifyComplete();
   }
 
+  @Test
+  void primitiveValue() {
+    primitiveValue(sharedConn);
+  }
+
+  @Test
+  void primitiveValuePrepare() {
+    primitiveValue(sharedConnPrepare);
+  }
+
+  private void primitiveValue(MariadbConnection connection) {
+    connection
+        .createStatement("SELECT t1, t2 FROM IntTable WHERE 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(
+            r ->
+                r.map(
+                    (row, metadata) -> {
+                      MariadbRow mariadbRow = (MariadbRow) row;
+                      if (mariadbRow.isNull(0)) return "null";
+                      return mariadbRow.getInt(0)
+                          + "/"
+                          + mariadbRow.getLong("t2")
+                          + "/"
+                          + mariadbRow.getDouble(0)
+                          + "/"
+                          + mariadbRow.getBoolean(0);
+                    }))
+        .as(StepVerifier::create)
+        .expectNext("0/0/0.0/false", "1/10/1.0/true", "-1/1294967295/-1.0/true", "null")
+        .verifyComplete();
+
+    connection
+        .createStatement("SELECT t1 FROM IntTable WHERE t1 IS NULL AND 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> ((MariadbRow) row).getInt(0)))
+        .as(StepVerifier::create)
+        .expectErrorMatches(
+            throwable ->
+                throwable instanceof R2dbcTransientResourceException
+                    && throwable.getMessage().equals("Cannot return null for primitive int"))
+        .verify();
+
+    connection
+        .createStatement("SELECT t1 FROM IntUnsignedTable WHERE t1 = 4294967295 AND 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> ((MariadbRow) row).getInt(0)))
+        .as(StepVerifier::create)
+        .expectErrorMatches(
+            throwable ->
+                throwable instanceof R2dbcNonTransientResourceException
+                    && throwable.getMessage().equals("integer overflow"))
+        .verify();
+  }
+
   @Test
   void booleanValue() {
     booleanValue(sharedConn);
@@ -12,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -245,6 +246,162 @@ public class BlobParameterTest extends BaseConnectionTest {
         ByteBuffer.wrap(new byte[] {0}));
   }
 
+  @Test
+  void longDataValuePrepare() {
+    Assumptions.assumeTrue(maxAllowedPacket() >= 4 * 1024 * 1024);
+    sharedConnPrepare
+        .createStatement("CREATE TEMPORARY TABLE LongDataParam (t1 LONGBLOB, t2 LONGBLOB, t3 BLOB)")
+        .execute()
+        .blockLast();
+    byte[] bytes = new byte[3 * 1024 * 1024 + 10];
+    for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (i % 251);
+
+    // values are sent by chunks using COM_STMT_SEND_LONG_DATA
+    sharedConnPrepare
+        .createStatement("INSERT INTO LongDataParam VALUES (?,?,?)")
+        .bind(0, new ByteArrayInputStream(bytes))
+        .bind(
+            1,
+            Blob.from(
+                Flux.just(
+                    ByteBuffer.wrap(bytes, 0, 10),
+                    ByteBuffer.wrap(bytes, 10, bytes.length - 10))))
+        .bind(2, new ByteArrayInputStream(new byte[0]))
+        .execute()
+        .blockLast();
+    // same prepared statement, without long data
+    sharedConnPrepare
+        .createStatement("INSERT INTO LongDataParam VALUES (?,?,?)")
+        .bind(0, new byte[] {1})
+        .bind(1, new byte[] {2})
+        .bind(2, new byte[] {3})
+        .execute()
+        .blockLast();
+
+    sharedConnPrepare
+        .createStatement("SELECT * FROM LongDataParam WHERE 1 = ?")
+        .bind(0, 1)
+        .execute()
+        .flatMap(
+            r ->
+                r.map(
+                    (row, metadata) ->
+                        new byte[][] {
+                          row.get(0, byte[].class),
+                          row.get(1, byte[].class),
+                          row.get(2, byte[].class)
+                        }))
+        .as(StepVerifier::create)
+        .consumeNextWith(
+            values -> {
+              Assertions.assertArrayEquals(bytes, values[0]);
+              Assertions.assertArrayEquals(bytes, values[1]);
+              Assertions.assertArrayEquals(new byte[0], values[2]);
+            })
+        .consumeNextWith(
+            values -> {
+              Assertions.assertArrayEquals(new byte[] {1}, values[0]);
+              Assertions.assertArrayEquals(new byte[] {2}, values[1]);
+              Assertions.assertArrayEquals(new byte[] {3}, values[2]);
+            })
+        .verifyComplete();
+    sharedConnPrepare.createStatement("DROP TEMPORARY TABLE LongDataParam").execute().blockLast();
+  }
+
+  @Test
+  void longDataBatch() {
+    longDataBatch(sharedConn);
+  }
+
+  @Test
+  void longDataBatchPrepare() {
+    longDataBatch(sharedConnPrepare);
+  }
+
+  void longDataBatch(MariadbConnection connection) {
+    Assumptions.assumeTrue(maxAllowedPacket() >= 4 * 1024 * 1024);
+    connection
+        .createStatement("CREATE TEMPORARY TABLE longDataBatch (id int, t LONGBLOB)")
+        .execute()
+        .blockLast();
+    byte[] bytes = new byte[1024 * 1024 + 10];
+    for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (i % 251);
+
+    // streams exceeding one chunk must not prevent batch commands from being sent in order
+    MariadbStatement stmt = connection.createStatement("INSERT INTO longDataBatch VALUES (?,?)");
+    for (int i = 0; i < 3; i++) {
+      stmt.bind(0, i).bind(1, new ByteArrayInputStream(bytes)).add();
+    }
+    stmt.bind(0, 3).bind(1, new byte[] {1});
+    stmt.execute()
+        .flatMap(r -> r.getRowsUpdated())
+        .as(StepVerifier::create)
+        .expectNext(1, 1, 1, 1)
+        .verifyComplete();
+
+    connection
+        .createStatement("SELECT id, t FROM longDataBatch WHERE 1 = ? ORDER BY id")
+        .bind(0, 1)
+        .execute()
+        .flatMap(r -> r.map((row, metadata) -> row.get(1, byte[].class)))
+        .as(StepVerifier::create)
+        .consumeNextWith(value -> Assertions.assertArrayEquals(bytes, value))
+        .consumeNextWith(value -> Assertions.assertArrayEquals(bytes, value))
+        .consumeNextWith(value -> Assertions.assertArrayEquals(bytes, value))
+        .consumeNextWith(value -> Assertions.assertArrayEquals(new byte[] {1}, value))
+        .verifyComplete();
+    connection.createStatement("DROP TEMPORARY TABLE longDataBatch").execute().blockLast();
+  }
+
+  @Test
+  void concurrentLongDataPrepare() {
+    Assumptions.assumeTrue(maxAllowedPacket() >= 4 * 1024 * 1024);
+    sharedConnPrepare
+        .createStatement("CREATE TEMPORARY TABLE concurrentLongData (id int, t LONGBLOB)")
+        .execute()
+        .blockLast();
+
+    // concurrent executions of the same command must not mix their long data
+    Flux.range(0, 10)
+        .flatMap(
+            i -> {
+              byte[] bytes = new byte[1024 * 1024 + 10];
+              Arrays.fill(bytes, (byte) i);
+              return sharedConnPrepare
+                  .createStatement("INSERT INTO concurrentLongData VALUES (?,?)")
+                  .bind(0, i)
+                  .bind(1, new ByteArrayInputStream(bytes))
+                  .execute()
+                  .flatMap(r -> r.getRowsUpdated());
+            },
+            10)
+        .as(StepVerifier::create)
+        .expectNextCount(10)
+        .verifyComplete();
+
+    sharedConnPrepare
+        .createStatement("SELECT id, t FROM concurrentLongData WHERE 1 = ? ORDER BY id")
+        .bind(0, 1)
+        .execute()
+        .flatMap(
+            r ->
+                r.map(
+                    (row, metadata) -> {
+                      int id = row.get(0, Integer.class);
+                      byte[] expected = new byte[1024 * 1024 + 10];
+                      Arrays.fill(expected, (byte) id);
+                      Assertions.assertArrayEquals(expected, row.get(1, byte[].class));
+                      return id;
+                    }))
+        .as(StepVerifier::create)
+        .expectNext(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)
+        .verifyComplete();
+    sharedConnPrepare
+        .createStatement("DROP TEMPORARY TABLE concurrentLongData")
+        .execute()
+        .blockLast();
+  }
+
   @Test
   void inputStreamValue() {
     inputStreamValue(sharedConn);
@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import java.util.zip.Deflater;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.client.MariadbCompressionCodec;
+
+public class CompressionCodecTest {
+
+  private static ByteBuf command(int command) {
+    ByteBuf buf = Unpooled.buffer(5);
+    buf.writeMediumLE(1);
+    buf.writeByte(0);
+    buf.writeByte(command);
+    return buf;
+  }
+
+  private static ByteBuf uncompressed(int sequence, byte... data) {
+    ByteBuf buf = Unpooled.buffer(7 + data.length);
+    buf.writeMediumLE(data.length);
+    buf.writeByte(sequence);
+    buf.writeMediumLE(0);
+    buf.writeBytes(data);
+    return buf;
+  }
+
+  private static void send(EmbeddedChannel channel, int command) {
+    channel.writeOutbound(command(command));
+    ByteBuf out = channel.readOutbound();
+    out.release();
+  }
+
+  private static void receive(EmbeddedChannel channel, int sequence) {
+    channel.writeInbound(uncompressed(sequence, (byte) 1));
+    ByteBuf in = channel.readInbound();
+    assertEquals(1, in.readableBytes());
+    in.release();
+  }
+
+  @Test
+  void inflate() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbCompressionCodec());
+    send(channel, 0x03);
+
+    byte[] data = new byte[4096];
+    for (int i = 0; i < data.length; i++) data[i] = (byte) (i % 7);
+    Deflater deflater = new Deflater();
+    deflater.setInput(data);
+    deflater.finish();
+    byte[] compressed = new byte[data.length];
+    int len = deflater.deflate(compressed);
+    deflater.end();
+
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeMediumLE(len);
+    buf.writeByte(1);
+    buf.writeMediumLE(data.length);
+    buf.writeBytes(compressed, 0, len);
+    channel.writeInbound(buf);
+
+    ByteBuf in = channel.readInbound();
+    assertEquals(data.length, in.readableBytes());
+    for (int i = 0; i < data.length; i++) assertEquals(data[i], in.getByte(i));
+    in.release();
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void pipelinedSequences() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbCompressionCodec());
+    send(channel, 0x03);
+    // COM_STMT_CLOSE has no response
+    send(channel, 0x19);
+    send(channel, 0x03);
+
+    // first response, wrapping around, then second response
+    for (int i = 1; i < 260; i++) receive(channel, i & 0xff);
+    receive(channel, 1);
+    receive(channel, 2);
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void wrongSequence() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbCompressionCodec());
+    send(channel, 0x03);
+    receive(channel, 1);
+    assertThrows(DecoderException.class, () -> channel.writeInbound(uncompressed(5, (byte) 1)));
+    channel.finishAndReleaseAll();
+  }
+}
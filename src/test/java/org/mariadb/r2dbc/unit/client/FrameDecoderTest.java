@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.client.MariadbFrameDecoder;
+
+public class FrameDecoderTest {
+
+  private static ByteBuf packet(int length, int sequence, byte value) {
+    ByteBuf buf = Unpooled.buffer(4 + length);
+    buf.writeMediumLE(length);
+    buf.writeByte(sequence);
+    for (int i = 0; i < length; i++) buf.writeByte(value);
+    return buf;
+  }
+
+  @Test
+  void standardPackets() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbFrameDecoder());
+    ByteBuf data = Unpooled.wrappedBuffer(packet(3, 1, (byte) 'a'), packet(0, 2, (byte) 0));
+    channel.writeInbound(data.readRetainedSlice(5));
+    assertNull(channel.readInbound());
+    channel.writeInbound(data);
+
+    ByteBuf first = channel.readInbound();
+    assertEquals(4, first.readableBytes());
+    assertEquals(1, first.getByte(0));
+    assertEquals('a', first.getByte(3));
+    first.release();
+
+    ByteBuf second = channel.readInbound();
+    assertEquals(1, second.readableBytes());
+    assertEquals(2, second.getByte(0));
+    second.release();
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void multipartPacket() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbFrameDecoder());
+    ByteBuf data =
+        Unpooled.wrappedBuffer(
+            packet(0xffffff, 1, (byte) 'a'),
+            packet(0xffffff, 2, (byte) 'b'),
+            packet(10, 3, (byte) 'c'));
+
+    // send data by chunks
+    while (data.readableBytes() > 0) {
+      channel.writeInbound(data.readRetainedSlice(Math.min(1_000_000, data.readableBytes())));
+    }
+    data.release();
+
+    ByteBuf packet = channel.readInbound();
+    assertNotNull(packet);
+    assertEquals(1 + 2 * 0xffffff + 10, packet.readableBytes());
+    assertEquals(3, packet.getByte(0));
+    assertEquals('a', packet.getByte(1));
+    assertEquals('a', packet.getByte(0xffffff));
+    assertEquals('b', packet.getByte(0xffffff + 1));
+    assertEquals('c', packet.getByte(2 * 0xffffff + 1));
+    assertEquals('c', packet.getByte(2 * 0xffffff + 10));
+    packet.release();
+    assertNull(channel.readInbound());
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void multipartPacketEndingWithEmptyPacket() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbFrameDecoder());
+    channel.writeInbound(packet(0xffffff, 1, (byte) 'a'));
+    assertNull(channel.readInbound());
+    channel.writeInbound(packet(0, 2, (byte) 0));
+
+    ByteBuf packet = channel.readInbound();
+    assertEquals(1 + 0xffffff, packet.readableBytes());
+    assertEquals(1 + 0xffffff, packet.capacity());
+    assertEquals(2, packet.getByte(0));
+    packet.release();
+    assertFalse(channel.finish());
+  }
+
+  @Test
+  void multipartPacketSlightlyOverMax() {
+    EmbeddedChannel channel = new EmbeddedChannel(new MariadbFrameDecoder());
+    channel.writeInbound(
+        Unpooled.wrappedBuffer(packet(0xffffff, 1, (byte) 'a'), packet(10, 2, (byte) 'b')));
+
+    // buffer is not bigger than needed
+    ByteBuf packet = channel.readInbound();
+    assertEquals(1 + 0xffffff + 10, packet.readableBytes());
+    assertEquals(1 + 0xffffff + 10, packet.capacity());
+    assertEquals('b', packet.getByte(0xffffff + 10));
+    packet.release();
+    assertFalse(channel.finish());
+  }
+}
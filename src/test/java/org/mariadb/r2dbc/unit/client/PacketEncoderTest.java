@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.client.MariadbPacketEncoder;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.message.client.QueryPacket;
+
+public class PacketEncoderTest {
+
+  private static MariadbPacketEncoder encoder() {
+    MariadbPacketEncoder encoder = new MariadbPacketEncoder();
+    encoder.setContext(
+        new SimpleContext(
+            "10.6.5-MariaDB",
+            1,
+            0,
+            (short) 0,
+            true,
+            0,
+            null,
+            UnpooledByteBufAllocator.DEFAULT,
+            null));
+    return encoder;
+  }
+
+  @Test
+  void headerInPlace() {
+    ByteBuf buf = encoder().encodeFlux(new QueryPacket("SELECT 1"));
+    try {
+      assertFalse(buf instanceof CompositeByteBuf);
+      assertEquals(13, buf.readableBytes());
+      assertEquals(9, buf.getUnsignedMediumLE(buf.readerIndex()));
+      assertEquals(0, buf.getByte(buf.readerIndex() + 3));
+      assertEquals(0x03, buf.getByte(buf.readerIndex() + 4));
+      assertEquals("SELECT 1", buf.toString(buf.readerIndex() + 5, 8, StandardCharsets.UTF_8));
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  void splitBigPacket() {
+    char[] arr = new char[0xffffff];
+    Arrays.fill(arr, 'a');
+    ByteBuf buf = encoder().encodeFlux(new QueryPacket(new String(arr)));
+    try {
+      // 0xffffff + 1 bytes payload => one full packet + one packet of 1 byte
+      assertEquals(0xffffff + 1 + 8, buf.readableBytes());
+      assertEquals(0xffffff, buf.getUnsignedMediumLE(0));
+      assertEquals(0, buf.getByte(3));
+      assertEquals(0x03, buf.getByte(4));
+      assertEquals(1, buf.getUnsignedMediumLE(0xffffff + 4));
+      assertEquals(1, buf.getByte(0xffffff + 7));
+      assertEquals('a', buf.getByte(0xffffff + 8));
+    } finally {
+      buf.release();
+    }
+  }
+}
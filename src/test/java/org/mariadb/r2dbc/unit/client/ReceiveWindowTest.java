@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.client;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ReceiveWindowMode;
+import org.mariadb.r2dbc.client.ReceiveWindow;
+
+public class ReceiveWindowTest {
+
+  @Test
+  public void parse() {
+    Assertions.assertEquals(ReceiveWindowMode.PACKETS, ReceiveWindowMode.from("packets"));
+    Assertions.assertEquals(ReceiveWindowMode.BYTES, ReceiveWindowMode.from("BYTES"));
+    Assertions.assertEquals(ReceiveWindowMode.ADAPTIVE, ReceiveWindowMode.from("adaptive"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ReceiveWindowMode.from("wrong"));
+  }
+
+  @Test
+  public void packets() {
+    ReceiveWindow window = new ReceiveWindow(ReceiveWindowMode.PACKETS, 1000);
+    for (int i = 0; i < 100; i++) window.onPacket(1024 * 1024);
+    Assertions.assertEquals(1000, window.next());
+  }
+
+  @Test
+  public void bytes() {
+    ReceiveWindow window = new ReceiveWindow(ReceiveWindowMode.BYTES, 1024 * 1024);
+    for (int i = 0; i < 100; i++) window.onPacket(16);
+    Assertions.assertEquals(ReceiveWindow.MAX_PACKETS, window.next());
+
+    for (int i = 0; i < 100; i++) window.onPacket(1024);
+    int packets = window.next();
+    Assertions.assertTrue(packets >= 1000 && packets <= 1100, "packets:" + packets);
+
+    for (int i = 0; i < 100; i++) window.onPacket(4 * 1024 * 1024);
+    Assertions.assertEquals(1, window.next());
+  }
+
+  @Test
+  public void adaptive() {
+    ReceiveWindow window = new ReceiveWindow(ReceiveWindowMode.ADAPTIVE, 1024 * 1024);
+    for (int i = 0; i < 100; i++) window.onPacket(16);
+
+    // consumer keeps up: window grows until maximum
+    Assertions.assertEquals(512, window.next());
+    Assertions.assertEquals(1024, window.next());
+    for (int i = 0; i < 10; i++) window.next();
+    Assertions.assertEquals(ReceiveWindow.MAX_PACKETS, window.next());
+
+    // consumer is slower: window shrinks until minimum
+    window.onBuffered();
+    Assertions.assertEquals(ReceiveWindow.MAX_PACKETS / 2, window.next());
+    for (int i = 0; i < 20; i++) {
+      window.onBuffered();
+      window.next();
+    }
+    window.onBuffered();
+    Assertions.assertEquals(ReceiveWindow.MIN_PACKETS, window.next());
+
+    // window is limited by byte budget
+    for (int i = 0; i < 200; i++) window.onPacket(256 * 1024);
+    Assertions.assertEquals(4, window.next());
+  }
+
+  @Test
+  public void maxBufferedBytes() {
+    ReceiveWindow window = new ReceiveWindow(ReceiveWindowMode.PACKETS, 1000, 64 * 1024);
+    Assertions.assertEquals(256, window.next());
+
+    // window is limited by largest packet received
+    window.onPacket(1024);
+    for (int i = 0; i < 100; i++) window.onPacket(16);
+    Assertions.assertEquals(64, window.next());
+
+    window.onPacket(1024 * 1024);
+    Assertions.assertEquals(1, window.next());
+  }
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.spi.Blob;
+import io.r2dbc.spi.Clob;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.codec.list.BlobCodec;
+import org.mariadb.r2dbc.codec.list.ClobCodec;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+public class LobStreamTest {
+  private static final int SIZE = 40_000_000;
+  private static final ColumnDefinitionPacket column =
+      ColumnDefinitionPacket.fromGeneratedId("c", null);
+
+  @Test
+  public void blobStream() {
+    byte[] bytes = new byte[SIZE];
+    for (int i = 0; i < SIZE; i++) bytes[i] = (byte) i;
+    ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+    Blob blob =
+        BlobCodec.INSTANCE.decodeText(buf, SIZE, column, Blob.class, ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(0, buf.readableBytes());
+    Assertions.assertEquals(2, buf.refCnt());
+
+    List<ByteBuffer> chunks = Flux.from(blob.stream()).collectList().block();
+    Assertions.assertEquals(3, chunks.size());
+    byte[] result = new byte[SIZE];
+    int pos = 0;
+    for (ByteBuffer chunk : chunks) {
+      Assertions.assertTrue(chunk.remaining() <= 0xffffff);
+      int len = chunk.remaining();
+      chunk.get(result, pos, len);
+      pos += len;
+    }
+    Assertions.assertEquals(SIZE, pos);
+    Assertions.assertTrue(Arrays.equals(bytes, result));
+    Assertions.assertEquals(1, buf.refCnt());
+  }
+
+  @Test
+  public void blobStreamCancel() {
+    ByteBuf buf = Unpooled.wrappedBuffer(new byte[SIZE]);
+    Blob blob =
+        BlobCodec.INSTANCE.decodeText(buf, SIZE, column, Blob.class, ExceptionFactory.INSTANCE);
+    StepVerifier.create(blob.stream(), 1)
+        .expectNextMatches(b -> b.remaining() == 0xffffff)
+        .thenCancel()
+        .verify();
+    Assertions.assertEquals(1, buf.refCnt());
+    StepVerifier.create(blob.stream()).expectError(IllegalStateException.class).verify();
+  }
+
+  @Test
+  public void clobStream() {
+    // 3-byte UTF-8 characters, chunk limit not being aligned with character boundaries
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < SIZE / 3; i++) sb.append(i % 10 == 0 ? 'a' : '\u20ac');
+    String value = sb.toString();
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    ByteBuf buf = Unpooled.wrappedBuffer(bytes);
+    Clob clob =
+        ClobCodec.INSTANCE.decodeText(
+            buf, bytes.length, column, Clob.class, ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(0, buf.readableBytes());
+
+    List<CharSequence> chunks = Flux.from(clob.stream()).collectList().block();
+    Assertions.assertTrue(chunks.size() > 1);
+    StringBuilder result = new StringBuilder();
+    for (CharSequence chunk : chunks) {
+      Assertions.assertFalse(chunk.toString().contains("\ufffd"));
+      result.append(chunk);
+    }
+    Assertions.assertEquals(value, result.toString());
+    Assertions.assertEquals(1, buf.refCnt());
+  }
+
+  @Test
+  public void clobDiscard() {
+    ByteBuf buf = Unpooled.wrappedBuffer("some text".getBytes(StandardCharsets.UTF_8));
+    Clob clob = ClobCodec.INSTANCE.decodeText(buf, 9, column, Clob.class, ExceptionFactory.INSTANCE);
+    Assertions.assertEquals(2, buf.refCnt());
+    StepVerifier.create(clob.discard()).verifyComplete();
+    Assertions.assertEquals(1, buf.refCnt());
+    StepVerifier.create(clob.discard()).verifyComplete();
+    StepVerifier.create(clob.stream()).expectError(IllegalStateException.class).verify();
+  }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.codec.NumberParser;
+
+public class NumberParserTest {
+
+  private static ByteBuf buf(String value) {
+    return Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void plainScale() {
+    Assertions.assertEquals(0, NumberParser.plainScale(buf("0"), 1));
+    Assertions.assertEquals(0, NumberParser.plainScale(buf("-123"), 4));
+    Assertions.assertEquals(2, NumberParser.plainScale(buf("-1.25"), 5));
+    Assertions.assertEquals(1, NumberParser.plainScale(buf(".5"), 2));
+    Assertions.assertEquals(0, NumberParser.plainScale(buf("123456789012345678"), 18));
+
+    // left to JDK parsers
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf(""), 0));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("-"), 1));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("1."), 2));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("+1"), 2));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("1e10"), 4));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("1.2.3"), 5));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf(" 1"), 2));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("abc"), 3));
+    Assertions.assertEquals(-1, NumberParser.plainScale(buf("1234567890123456789"), 19));
+  }
+
+  @Test
+  public void read() {
+    String[] values = {
+      "0", "-0", "1", "-1", "0.5", "-0.5", "1.999", "-1.999", "123.456", "0.1", "0.3", "-.5",
+      "9007199254740993", "900719925474.0993", "123456789012345678", "-12345678.9012345678",
+      "3.14159265358979", "00012.3400"
+    };
+    for (String value : values) {
+      int length = value.length();
+      int scale = NumberParser.plainScale(buf(value), length);
+      Assertions.assertTrue(scale >= 0, value);
+
+      ByteBuf buf = buf(value);
+      Assertions.assertEquals(
+          new BigDecimal(value).setScale(0, RoundingMode.DOWN).longValueExact(),
+          NumberParser.readTruncated(buf, length, scale),
+          value);
+      Assertions.assertEquals(0, buf.readableBytes());
+
+      buf = buf(value);
+      Assertions.assertEquals(
+          new BigDecimal(value), NumberParser.readBigDecimal(buf, length, scale), value);
+      Assertions.assertEquals(0, buf.readableBytes());
+
+      buf = buf(value);
+      Assertions.assertEquals(
+          Double.doubleToLongBits(Double.parseDouble(value)),
+          Double.doubleToLongBits(NumberParser.readDouble(buf, length, scale)),
+          value);
+      Assertions.assertEquals(0, buf.readableBytes());
+    }
+  }
+}
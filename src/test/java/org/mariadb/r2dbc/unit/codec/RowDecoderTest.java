@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.codec.BinaryRowDecoder;
+import org.mariadb.r2dbc.codec.RowDecoder;
+import org.mariadb.r2dbc.codec.TextRowDecoder;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+
+public class RowDecoderTest {
+  private static final Long[] VALUES = new Long[] {1L, 22L, null, 4444L, 5L};
+
+  private static List<ColumnDefinitionPacket> columns() {
+    List<ColumnDefinitionPacket> columns = new ArrayList<>();
+    for (int i = 0; i < VALUES.length; i++) {
+      columns.add(ColumnDefinitionPacket.fromGeneratedId("col" + i, null));
+    }
+    return columns;
+  }
+
+  private static ByteBuf textRow() {
+    ByteBuf buf = Unpooled.buffer();
+    for (Long value : VALUES) {
+      if (value == null) {
+        buf.writeByte(0xfb);
+      } else {
+        byte[] val = value.toString().getBytes(StandardCharsets.US_ASCII);
+        buf.writeByte(val.length);
+        buf.writeBytes(val);
+      }
+    }
+    return buf;
+  }
+
+  private static ByteBuf binaryRow() {
+    ByteBuf buf = Unpooled.buffer();
+    buf.writeByte(0x00);
+    byte[] nullBitmap = new byte[(VALUES.length + 9) / 8];
+    for (int i = 0; i < VALUES.length; i++) {
+      if (VALUES[i] == null) nullBitmap[(i + 2) / 8] |= 1 << ((i + 2) % 8);
+    }
+    buf.writeBytes(nullBitmap);
+    for (Long value : VALUES) {
+      if (value != null) buf.writeLongLE(value);
+    }
+    return buf;
+  }
+
+  @Test
+  void textRandomAccess() {
+    List<ColumnDefinitionPacket> columns = columns();
+    randomAccess(
+        new TextRowDecoder(columns, null, ExceptionFactory.withSql(null)), columns, true);
+  }
+
+  @Test
+  void binaryRandomAccess() {
+    List<ColumnDefinitionPacket> columns = columns();
+    randomAccess(
+        new BinaryRowDecoder(columns, null, ExceptionFactory.withSql(null)), columns, false);
+  }
+
+  private void randomAccess(
+      RowDecoder decoder, List<ColumnDefinitionPacket> columns, boolean text) {
+    int[][] accessOrders =
+        new int[][] {{0, 1, 2, 3, 4}, {4, 3, 2, 1, 0}, {3, 0, 4, 2, 1, 3, 0}, {2, 2, 4, 4, 1}};
+    for (int[] order : accessOrders) {
+      // new row for each access order, decoder being reused
+      decoder.resetRow(text ? textRow() : binaryRow());
+      for (int i : order) {
+        Assertions.assertEquals(VALUES[i], decoder.get(i, columns.get(i), Long.class));
+        Assertions.assertEquals(VALUES[i] == null, decoder.isNull(i));
+      }
+    }
+  }
+
+  @Test
+  void textPrimitiveAccess() {
+    List<ColumnDefinitionPacket> columns = columns();
+    primitiveAccess(
+        new TextRowDecoder(columns, null, ExceptionFactory.withSql(null)), columns, true);
+  }
+
+  @Test
+  void binaryPrimitiveAccess() {
+    List<ColumnDefinitionPacket> columns = columns();
+    primitiveAccess(
+        new BinaryRowDecoder(columns, null, ExceptionFactory.withSql(null)), columns, false);
+  }
+
+  private void primitiveAccess(
+      RowDecoder decoder, List<ColumnDefinitionPacket> columns, boolean text) {
+    for (int row = 0; row < 3; row++) {
+      // decoder being reused, primitive types alternating on same column
+      decoder.resetRow(text ? textRow() : binaryRow());
+      Assertions.assertEquals(1L, decoder.getLong(0, columns.get(0)));
+      Assertions.assertEquals(22, decoder.getInt(1, columns.get(1)));
+      Assertions.assertEquals(4444L, decoder.getLong(3, columns.get(3)));
+      Assertions.assertEquals(4444D, decoder.getDouble(3, columns.get(3)));
+      Assertions.assertEquals(5, decoder.getInt(4, columns.get(4)));
+      Assertions.assertEquals(1, decoder.getInt(0, columns.get(0)));
+      Assertions.assertThrows(
+          IllegalArgumentException.class, () -> decoder.getLong(2, columns.get(2)));
+    }
+  }
+}
@@ -0,0 +1,48 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.codec.list.LocalDateTimeCodec;
+
+public class TimestampParserTest {
+
+  private static int[] parse(String value) {
+    ByteBuf buf = Unpooled.wrappedBuffer(value.getBytes(StandardCharsets.US_ASCII));
+    int[] parts = LocalDateTimeCodec.parseTimestamp(buf, value.length());
+    Assertions.assertEquals(0, buf.readableBytes());
+    return parts;
+  }
+
+  @Test
+  public void parseTimestamp() {
+    String[] values = {
+      "2022-03-14 15:09:26",
+      "2022-03-14 15:09:26.5",
+      "2022-03-14 15:09:26.53",
+      "2022-03-14 15:09:26.535897",
+      "1970-01-01 00:00:00.000001",
+      "9999-12-31 23:59:59.999999",
+      "0000-00-00 10:20:30",
+      "0000-00-00 00:00:00",
+      "0000-00-00 00:00:00.000000",
+      "2022-03-14",
+      "2022-3-4 5:6:7"
+    };
+    for (String value : values) {
+      Assertions.assertArrayEquals(LocalDateTimeCodec.parseTimestamp(value), parse(value), value);
+    }
+
+    Assertions.assertArrayEquals(
+        new int[] {2022, 3, 14, 15, 9, 26, 535897000}, parse("2022-03-14 15:09:26.535897"));
+    Assertions.assertArrayEquals(
+        new int[] {2022, 3, 14, 15, 9, 26, 500000000}, parse("2022-03-14 15:09:26.5"));
+    Assertions.assertArrayEquals(new int[] {0, 1, 1, 10, 20, 30, 0}, parse("0000-00-00 10:20:30"));
+    Assertions.assertNull(parse("0000-00-00 00:00:00"));
+  }
+}
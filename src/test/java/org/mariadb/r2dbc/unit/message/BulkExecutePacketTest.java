@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.message;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.client.SimpleContext;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.StringCodec;
+import org.mariadb.r2dbc.message.client.BulkExecutePacket;
+import org.mariadb.r2dbc.util.BindEncodedValue;
+import org.mariadb.r2dbc.util.constants.Capabilities;
+
+public class BulkExecutePacketTest {
+  private static final UnpooledByteBufAllocator allocator = UnpooledByteBufAllocator.DEFAULT;
+
+  private static List<BindEncodedValue> row(Object value) {
+    BindEncodedValue encoded =
+        (value instanceof String ? StringCodec.INSTANCE : IntCodec.INSTANCE)
+            .encodeBinary(allocator, value, ExceptionFactory.INSTANCE)
+            .encode();
+    return Collections.singletonList(encoded);
+  }
+
+  private static SimpleContext context(long clientCapabilities) {
+    return new SimpleContext(
+        "11.5.2-MariaDB",
+        1,
+        clientCapabilities,
+        (short) 0,
+        true,
+        clientCapabilities,
+        null,
+        allocator,
+        null);
+  }
+
+  @Test
+  void splitOnWrittenBytes() {
+    // 100 chars, but 300 bytes once encoded
+    char[] chars = new char[100];
+    Arrays.fill(chars, '\u20ac');
+    String str = new String(chars);
+
+    BulkExecutePacket packet = new BulkExecutePacket(1, 1, 700, allocator);
+    Assertions.assertTrue(packet.add(row(str)));
+    Assertions.assertTrue(packet.add(row(str)));
+    // char count would permit a third row
+    Assertions.assertFalse(packet.add(row(str)));
+    Assertions.assertEquals(2, packet.size());
+
+    ByteBuf buf = packet.encode(context(0), allocator);
+    try {
+      // header + command + statement id + flags + type, then 2 rows of indicator + value
+      Assertions.assertEquals(4 + 1 + 4 + 2 + 2 + 2 * (1 + 3 + 300), buf.readableBytes());
+      Assertions.assertEquals(0xfa, buf.getUnsignedByte(4));
+      Assertions.assertEquals(128, buf.getShortLE(9));
+      Assertions.assertEquals(15, buf.getUnsignedByte(11));
+      Assertions.assertEquals(0, buf.getByte(12));
+    } finally {
+      buf.release();
+    }
+    // command buffer has been transferred
+    packet.releaseEncodedBinds();
+  }
+
+  @Test
+  void firstRowAlwaysAdded() {
+    BulkExecutePacket packet = new BulkExecutePacket(1, 1, 10, allocator);
+    Assertions.assertTrue(packet.add(row("more than 10 bytes")));
+    Assertions.assertFalse(packet.add(row("a")));
+    packet.releaseEncodedBinds();
+  }
+
+  @Test
+  void typeChange() {
+    BulkExecutePacket packet = new BulkExecutePacket(1, 1, 1000, allocator);
+    Assertions.assertTrue(packet.add(row(1)));
+    Assertions.assertFalse(packet.add(row("a")));
+    Assertions.assertTrue(packet.add(row(2)));
+    Assertions.assertEquals(2, packet.size());
+    packet.releaseEncodedBinds();
+  }
+
+  @Test
+  void unitResultsFlag() {
+    BulkExecutePacket packet = new BulkExecutePacket(1, 1, 1000, allocator);
+    packet.add(row(1));
+    ByteBuf buf =
+        packet.encode(
+            context(
+                Capabilities.MARIADB_CLIENT_STMT_BULK_OPERATIONS
+                    | Capabilities.MARIADB_CLIENT_BULK_UNIT_RESULTS),
+            allocator);
+    try {
+      Assertions.assertEquals(128 | 64, buf.getShortLE(9));
+    } finally {
+      buf.release();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.message;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.MariadbConnectionConfiguration;
+import org.mariadb.r2dbc.codec.DataType;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+
+public class ColumnDefinitionPacketTest {
+
+  private static ByteBuf packet(String schema, String table, String name) {
+    ByteBuf buf = Unpooled.buffer();
+    for (String val : new String[] {"def", schema, table, table, name, name}) {
+      byte[] bytes = val.getBytes(StandardCharsets.UTF_8);
+      buf.writeByte(bytes.length);
+      buf.writeBytes(bytes);
+    }
+    buf.writeByte(0x0c); // length of fixed fields
+    buf.writeShortLE(33); // charset
+    buf.writeIntLE(11); // length
+    buf.writeByte(3); // INTEGER
+    buf.writeShortLE(0); // flags
+    buf.writeByte(0); // decimals
+    buf.writeShortLE(0); // unused
+    return buf;
+  }
+
+  @Test
+  public void decode() {
+    MariadbConnectionConfiguration conf =
+        MariadbConnectionConfiguration.builder().host("localhost").username("user").build();
+    ByteBuf buf = packet("db", "tbl", "someColumn");
+    ColumnDefinitionPacket column = ColumnDefinitionPacket.decode(null, buf, null, false, conf);
+    Assertions.assertEquals("db", column.getSchema());
+    Assertions.assertEquals("tbl", column.getTable());
+    Assertions.assertEquals("tbl", column.getTableAlias());
+    Assertions.assertEquals("someColumn", column.getName());
+    Assertions.assertSame(column.getName(), column.getName());
+    Assertions.assertEquals("someColumn", column.getColumn());
+    Assertions.assertEquals(DataType.INTEGER, column.getDataType());
+    Assertions.assertEquals(11, column.getLength());
+
+    // same metadata share instance
+    buf = packet("db", "tbl", "someColumn");
+    Assertions.assertSame(column, ColumnDefinitionPacket.decode(null, buf, null, false, conf));
+
+    // different metadata doesn't
+    ColumnDefinitionPacket other =
+        ColumnDefinitionPacket.decode(null, packet("db", "tbl", "otherColumn"), null, false, conf);
+    Assertions.assertNotSame(column, other);
+    Assertions.assertEquals("otherColumn", other.getName());
+
+    // different configuration doesn't
+    MariadbConnectionConfiguration conf2 =
+        MariadbConnectionConfiguration.builder().host("localhost").username("user").build();
+    ColumnDefinitionPacket column2 =
+        ColumnDefinitionPacket.decode(null, packet("db", "tbl", "someColumn"), null, false, conf2);
+    Assertions.assertNotSame(column, column2);
+    Assertions.assertEquals("someColumn", column2.getName());
+  }
+}
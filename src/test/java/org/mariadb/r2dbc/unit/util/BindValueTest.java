@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.r2dbc.spi.Blob;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.codec.list.BlobCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.codec.list.StringCodec;
+import org.mariadb.r2dbc.util.BindEncodedValue;
+import org.mariadb.r2dbc.util.BindValue;
+import reactor.core.publisher.Mono;
+
+public class BindValueTest {
+  private static final ByteBufAllocator allocator = UnpooledByteBufAllocator.DEFAULT;
+
+  @Test
+  public void synchronousValue() {
+    BindValue value = IntCodec.INSTANCE.encodeBinary(allocator, 258, ExceptionFactory.INSTANCE);
+    Assertions.assertTrue(value.isSynchronous());
+    Assertions.assertFalse(value.isNull());
+
+    // value is written directly into command buffer
+    BindEncodedValue encoded = value.encode();
+    Assertions.assertNull(encoded.getValue());
+    Assertions.assertFalse(encoded.isNull());
+    Assertions.assertEquals(4, encoded.getLength());
+    ByteBuf buf = allocator.buffer(4);
+    encoded.write(buf);
+    Assertions.assertEquals(4, buf.readableBytes());
+    Assertions.assertEquals(258, buf.readIntLE());
+    buf.release();
+
+    // reactive access is still possible
+    buf = value.getValue().block();
+    Assertions.assertEquals(258, buf.readIntLE());
+    buf.release();
+  }
+
+  @Test
+  public void multiByteStringLength() {
+    // 2, 3 and 4 bytes UTF-8 characters
+    String str = "\u00e9\u20ac\uD83D\uDE00a";
+    BindEncodedValue encoded =
+        StringCodec.INSTANCE.encodeBinary(allocator, str, ExceptionFactory.INSTANCE).encode();
+    Assertions.assertEquals(11, encoded.getLength());
+    ByteBuf buf = allocator.buffer(4);
+    encoded.write(buf);
+    Assertions.assertEquals(11, buf.readableBytes());
+    Assertions.assertEquals(10, buf.readByte());
+    buf.release();
+  }
+
+  @Test
+  public void asynchronousValue() {
+    Blob blob = Blob.from(Mono.just(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    BindValue value = BlobCodec.INSTANCE.encodeBinary(allocator, blob, ExceptionFactory.INSTANCE);
+    Assertions.assertFalse(value.isSynchronous());
+    ByteBuf buf = value.getValue().block();
+    Assertions.assertEquals(4, buf.readableBytes());
+    buf.release();
+  }
+}
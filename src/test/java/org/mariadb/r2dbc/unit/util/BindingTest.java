@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.r2dbc.spi.Blob;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.ExceptionFactory;
+import org.mariadb.r2dbc.codec.Codecs;
+import org.mariadb.r2dbc.codec.list.BlobCodec;
+import org.mariadb.r2dbc.codec.list.IntCodec;
+import org.mariadb.r2dbc.util.BindValue;
+import org.mariadb.r2dbc.util.Binding;
+import reactor.core.publisher.Mono;
+
+public class BindingTest {
+  private static final ByteBufAllocator allocator = UnpooledByteBufAllocator.DEFAULT;
+
+  @Test
+  public void parameters() {
+    Binding binding = new Binding(3);
+    Assertions.assertTrue(binding.isEmpty());
+    BindValue first = Codecs.encodeNull(String.class, 0);
+    BindValue third = Codecs.encodeNull(Integer.class, 2);
+    binding.add(2, third).add(0, first);
+    Assertions.assertEquals(2, binding.size());
+    Assertions.assertEquals(
+        "Binding{binds={0=BindValue{codec=StringCodec}, 2=BindValue{codec=IntCodec}}}",
+        binding.toString());
+
+    IllegalStateException e =
+        Assertions.assertThrows(IllegalStateException.class, () -> binding.validate(3));
+    Assertions.assertTrue(e.getMessage().contains("Parameter at position 1 is not set"));
+    e =
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> binding.getBindResultParameters(3));
+    Assertions.assertTrue(e.getMessage().contains("No parameter specified for index 1"));
+    Assertions.assertThrows(
+        IndexOutOfBoundsException.class, () -> binding.add(3, Codecs.encodeNull(null, 3)));
+
+    BindValue second = Codecs.encodeNull(String.class, 1);
+    binding.add(1, second);
+    binding.validate(3);
+    List<BindValue> parameters = binding.getBindResultParameters(3);
+    Assertions.assertEquals(3, parameters.size());
+    Assertions.assertSame(first, parameters.get(0));
+    Assertions.assertSame(second, parameters.get(1));
+    Assertions.assertSame(third, parameters.get(2));
+    Assertions.assertEquals(1, binding.getBindResultParameters(1).size());
+
+    binding.clear();
+    Assertions.assertTrue(binding.isEmpty());
+    Assertions.assertThrows(IllegalStateException.class, () -> binding.validate(3));
+    // returned parameters are not affected by clearing
+    Assertions.assertSame(first, parameters.get(0));
+    Assertions.assertSame(third, parameters.get(2));
+  }
+
+  @Test
+  public void noParameter() {
+    Binding binding = new Binding(0);
+    binding.validate(0);
+    Assertions.assertTrue(binding.getBindResultParameters(0).isEmpty());
+    Assertions.assertFalse(binding.hasLongData());
+    Assertions.assertTrue(binding.isSynchronous());
+  }
+
+  @Test
+  public void synchronous() {
+    Binding binding = new Binding(2);
+    binding.add(0, Codecs.encodeNull(Blob.class, 0));
+    binding.add(1, IntCodec.INSTANCE.encodeBinary(allocator, 1, ExceptionFactory.INSTANCE));
+    Assertions.assertTrue(binding.isSynchronous());
+
+    Blob blob = Blob.from(Mono.just(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    binding.add(0, BlobCodec.INSTANCE.encodeBinary(allocator, blob, ExceptionFactory.INSTANCE));
+    Assertions.assertFalse(binding.isSynchronous());
+    binding.clear();
+  }
+}
@@ -160,6 +160,24 @@ class BufferUtilsTest {
     buf.release();
   }
 
+  @Test
+  void readUtf8() {
+    readUtf8(allocator.heapBuffer(100));
+    readUtf8(allocator.directBuffer(100));
+  }
+
+  private void readUtf8(ByteBuf buf) {
+    String[] values = new String[] {"", "ascii value", "caf\u00e9", "\uD83C\uDF1F!", "a\u0000b"};
+    for (String value : values) {
+      buf.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+    for (String value : values) {
+      assertEquals(value, BufferUtils.readUtf8(buf, value.getBytes(StandardCharsets.UTF_8).length));
+    }
+    assertEquals(0, buf.readableBytes());
+    buf.release();
+  }
+
   @Test
   void readLengthEncodedBuffer() {
     ByteBuf buf = allocator.buffer(1000);
@@ -275,4 +293,22 @@ class BufferUtilsTest {
     Assertions.assertEquals("6D0000000A352E352E352D31302E362E", BufferUtils.toString(buf));
     buf.release();
   }
+
+  @Test
+  void writeLength() {
+    ByteBuf buf = allocator.buffer(1000);
+    long[] values = {0, 250, 251, 65535, 65536, 16777215, 16777216, 4294967296L};
+    for (long value : values) {
+      buf.clear();
+      BufferUtils.writeLength(buf, value);
+      assertEquals(BufferUtils.lengthEncodedSize(value), buf.readableBytes());
+      assertEquals(value, BufferUtils.readLengthEncodedInt(buf));
+    }
+
+    buf.clear();
+    BufferUtils.writeLengthUtf8(buf, "h\u20acllo");
+    assertEquals(7, BufferUtils.readLengthEncodedInt(buf));
+    assertEquals("h\u20acllo", BufferUtils.readUtf8(buf, 7));
+    buf.release();
+  }
 }
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: Apache-2.0
+// Copyright (c) 2020-2022 MariaDB Corporation Ab
+
+package org.mariadb.r2dbc.unit.util;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mariadb.r2dbc.message.server.ColumnDefinitionPacket;
+import org.mariadb.r2dbc.util.ColumnNameIndex;
+
+public class ColumnNameIndexTest {
+
+  @Test
+  public void indexOf() {
+    List<ColumnDefinitionPacket> columns =
+        Arrays.asList(
+            ColumnDefinitionPacket.fromGeneratedId("id", null),
+            ColumnDefinitionPacket.fromGeneratedId("Name", null),
+            ColumnDefinitionPacket.fromGeneratedId("NAME", null),
+            ColumnDefinitionPacket.fromGeneratedId("other", null));
+    ColumnNameIndex index = new ColumnNameIndex(columns);
+    Assertions.assertEquals(0, index.indexOf("id"));
+    Assertions.assertEquals(0, index.indexOf("ID"));
+    // first column with name is returned
+    Assertions.assertEquals(1, index.indexOf("name"));
+    Assertions.assertEquals(1, index.indexOf("NAME"));
+    Assertions.assertEquals(3, index.indexOf("oTHer"));
+    Assertions.assertEquals(-1, index.indexOf("unknown"));
+    Assertions.assertEquals(Arrays.asList("id", "Name", "NAME", "other"), index.names());
+  }
+}